@@ -0,0 +1,62 @@
+package com.webapp.trackerpro.benchmark;
+
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, so runs on different machines and commits
+ * measure the same shapes of data.
+ */
+final class BenchmarkData {
+
+    // Hashed once at the lowest strength; seeding and mapping never need a realistic cost
+    static final String PASSWORD_HASH = new BCryptPasswordEncoder(4).encode("password123");
+
+    private static final Role[] ROLES = {Role.STUDENT, Role.FACULTY, Role.HR};
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long index) {
+        User user = new User();
+        user.setId(index);
+        user.setFirstName("First" + index);
+        user.setLastName("Last" + index);
+        user.setEmail("user" + index + "@bench.local");
+        user.setMobile(String.format("9%09d", index));
+        user.setPassword(PASSWORD_HASH);
+        user.setRole(ROLES[(int) (index % ROLES.length)]);
+        user.setStatus(index % 4 == 0 ? UserStatus.PENDING : UserStatus.ACTIVE);
+        user.setCreatedAt(BASE_TIME.plusMinutes(index));
+        user.setUpdatedAt(BASE_TIME.plusMinutes(index));
+        return user;
+    }
+
+    // Same shape as an unsaved registration: no id or timestamps, Hibernate assigns them
+    static User newUser(long index) {
+        User user = user(index);
+        user.setId(null);
+        user.setCreatedAt(null);
+        user.setUpdatedAt(null);
+        return user;
+    }
+
+    static List<UserResponseDto> responses(int count) {
+        List<UserResponseDto> responses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            User user = user(i);
+            responses.add(new UserResponseDto(user.getId(), user.getFirstName(), user.getLastName(),
+                    user.getEmail(), user.getMobile(), user.getRole(), user.getStatus(),
+                    user.getCreatedAt(), user.getUpdatedAt()));
+        }
+        return responses;
+    }
+}
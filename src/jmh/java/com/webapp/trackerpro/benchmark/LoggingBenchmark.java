@@ -0,0 +1,122 @@
+package com.webapp.trackerpro.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.webapp.trackerpro.logging.CountingAsyncAppender;
+import com.webapp.trackerpro.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost one admin list request puts on the request thread: the three INFO lines
+ * AdminController and UserService write for GET /api/admin/users, sent to a file.
+ * "sync" is the default console setup (pattern layout, appender called on the caller),
+ * "async" adds the prod profile's bounded queue, "async-sampled" also its sampling filter.
+ * Async figures are the enqueue cost; run with -t 4 or more to see contention on the sync
+ * appender's lock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    // Boot's console pattern and the prod profile's key=value pattern from logback-spring.xml
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+    private static final String KEY_VALUE_PATTERN = "ts=%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} level=%level "
+            + "thread=\"%thread\" logger=%logger{40} "
+            + "msg=\"%replace(%replace(%message){'\"', '\\\\\"'}){'[\\r\\n]+', ' '}\" %kvp%n";
+
+    @Param({"sync", "async", "async-sampled"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger controllerLogger;
+    private Logger serviceLogger;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        context.start();
+
+        boolean async = !mode.equals("sync");
+        Appender<ILoggingEvent> appender = fileAppender(async ? KEY_VALUE_PATTERN : PATTERN);
+        if (async) {
+            CountingAsyncAppender asyncAppender = new CountingAsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC");
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(1638);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(appender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        if (mode.equals("async-sampled")) {
+            SamplingTurboFilter filter = new SamplingTurboFilter();
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        controllerLogger = context.getLogger("com.webapp.trackerpro.controller.AdminController");
+        serviceLogger = context.getLogger("com.webapp.trackerpro.service.UserService");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+        System.out.printf("%n%s: sampled out %d, discarded %d, queue full %d%n", mode,
+                SamplingTurboFilter.suppressedCount(), CountingAsyncAppender.discardedCount(),
+                CountingAsyncAppender.queueFullCount());
+    }
+
+    @Benchmark
+    public void adminUsersRequest() {
+        controllerLogger.info("Fetching users with role filter: {}", "STUDENT");
+        serviceLogger.info("Fetching users page by role: {}, limit: {}", "STUDENT", 50);
+        controllerLogger.info("Found {} users", 50);
+        // Filtered by level in every mode; shows the cost of a disabled statement
+        serviceLogger.debug("Cursor {} resolved", "MjAyNi0xMC0xNlQyMzo0MDoyNHwyMDAy");
+    }
+
+    private Appender<ILoggingEvent> fileAppender(String pattern) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(pattern);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName("FILE");
+        appender.setFile("target/jmh-logging-" + mode + ".log");
+        appender.setAppend(false);
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+}
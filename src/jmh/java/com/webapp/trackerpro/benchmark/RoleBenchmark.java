@@ -0,0 +1,33 @@
+package com.webapp.trackerpro.benchmark;
+
+import com.webapp.trackerpro.model.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoleBenchmark {
+
+    // Enum name, display name, and the first and last constants of the linear scan
+    @Param({"STUDENT", "Faculty", "hr", "admin"})
+    public String input;
+
+    @Benchmark
+    public Role fromString() {
+        return Role.fromString(input);
+    }
+}
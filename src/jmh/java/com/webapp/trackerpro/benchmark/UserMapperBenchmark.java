@@ -0,0 +1,39 @@
+package com.webapp.trackerpro.benchmark;
+
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.mapper.UserMapper;
+import com.webapp.trackerpro.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.user(42);
+    }
+
+    @Benchmark
+    public UserResponseDto toResponseDto() {
+        return userMapper.toResponseDto(user);
+    }
+}
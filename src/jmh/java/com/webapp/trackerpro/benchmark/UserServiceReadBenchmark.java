@@ -0,0 +1,123 @@
+package com.webapp.trackerpro.benchmark;
+
+import com.webapp.trackerpro.TrackerproApplication;
+import com.webapp.trackerpro.dto.CursorPage;
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserService read paths against an embedded H2 database in MySQL mode, seeded with a
+ * deterministic user set. Runs the full Spring context (without the web server) so
+ * transactions, the DTO projections and the cursor encoding are all measured as deployed;
+ * absolute numbers are H2's, use them to compare changes rather than to size MySQL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceReadBenchmark {
+
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    @Param({"1000", "10000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Command-line arguments, so they win over application.yml's MySQL settings
+        context = new SpringApplicationBuilder(TrackerproApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.database=h2",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.show-sql=false",
+                    "--app.security.token.allow-random-secret=true",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.webapp.trackerpro=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.springframework.security=WARN"
+                );
+
+        seed(context.getBean(UserRepository.class), new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class)));
+
+        userService = context.getBean(UserService.class);
+        deepCursor = userService.getAllUsersPage(null, UserService.MAX_PAGE_SIZE).getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed(UserRepository userRepository, TransactionTemplate transactionTemplate) {
+        for (int start = 1; start <= users; start += SEED_CHUNK_SIZE) {
+            int end = Math.min(start + SEED_CHUNK_SIZE - 1, users);
+            List<User> chunk = new ArrayList<>(end - start + 1);
+            for (int i = start; i <= end; i++) {
+                chunk.add(BenchmarkData.newUser(i));
+            }
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(chunk));
+        }
+    }
+
+    @Benchmark
+    public CursorPage<UserResponseDto> allUsersFirstPage() {
+        return userService.getAllUsersPage(null, UserService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<UserResponseDto> allUsersPageAfterCursor() {
+        return userService.getAllUsersPage(deepCursor, UserService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<UserResponseDto> usersByRoleFirstPage() {
+        return userService.getUsersByRolePage(Role.FACULTY, null, UserService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<UserResponseDto> pendingRegistrationsFirstPage() {
+        return userService.getPendingRegistrationsPage(null, UserService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<UserResponseDto> allUsersUnpaged() {
+        return userService.getAllUsers();
+    }
+}
@@ -0,0 +1,159 @@
+package com.webapp.trackerpro.benchmark;
+
+import com.webapp.trackerpro.TrackerproApplication;
+import com.webapp.trackerpro.model.ActivityType;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.service.UserActivityService;
+import com.webapp.trackerpro.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Eight threads toggling the status of a few users at once, against embedded H2 like
+ * {@link UserServiceReadBenchmark}. "conditional" is UserService.toggleUserStatus;
+ * "load-and-save" is the load, modify and save it replaced, which @Version on User now turns
+ * from a lost update into a conflict. The teardown prints JDBC statements per toggle and
+ * checks every user's status version against the toggles that reported success: a
+ * difference is a lost update. hotUsers=1 puts every thread on the same row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserStatusTransitionBenchmark {
+
+    @Param({"conditional", "load-and-save"})
+    public String path;
+
+    @Param({"1", "16"})
+    public int hotUsers;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private UserActivityService userActivityService;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    private long[] userIds;
+    private AtomicLongArray applied;
+    private final LongAdder conflicts = new LongAdder();
+    private long statementsAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TrackerproApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:transitions;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.database=h2",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.show-sql=false",
+                    "--app.security.token.allow-random-secret=true",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.webapp.trackerpro=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    // load-and-save logs every conflict it is expected to hit
+                    "--logging.level.org.hibernate.orm.jdbc.batch=OFF",
+                    "--logging.level.org.springframework.security=WARN"
+                );
+
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        userActivityService = context.getBean(UserActivityService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        // Indexes not divisible by 4 are seeded ACTIVE, so every user starts at status version 0
+        List<User> seeded = new ArrayList<>(hotUsers);
+        for (int i = 1; seeded.size() < hotUsers; i++) {
+            if (i % 4 != 0) {
+                seeded.add(BenchmarkData.newUser(i));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(seeded));
+        userIds = seeded.stream().mapToLong(User::getId).toArray();
+        applied = new AtomicLongArray(hotUsers);
+        statementsAtStart = statistics.getPrepareStatementCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long toggles = 0;
+        long lost = 0;
+        for (int i = 0; i < userIds.length; i++) {
+            int statusVersion = userRepository.findById(userIds[i]).orElseThrow().getStatusVersion();
+            toggles += applied.get(i);
+            lost += applied.get(i) - statusVersion;
+        }
+        long statements = statistics.getPrepareStatementCount() - statementsAtStart - userIds.length;
+        System.out.printf("%n%s, %d hot users: %d toggles, %.2f statements per toggle, %d conflicts, "
+                + "%d lost updates%n", path, hotUsers, toggles, (double) statements / Math.max(1, toggles),
+                conflicts.sum(), lost);
+        context.close();
+    }
+
+    @Benchmark
+    public void toggleStatus() {
+        int index = ThreadLocalRandom.current().nextInt(userIds.length);
+        long userId = userIds[index];
+        try {
+            if (path.equals("conditional")) {
+                userService.toggleUserStatus(userId);
+            } else {
+                loadAndSave(userId);
+            }
+            applied.incrementAndGet(index);
+        } catch (OptimisticLockingFailureException e) {
+            conflicts.increment();
+        }
+    }
+
+    private void loadAndSave(long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            UserStatus newStatus = user.getStatus() == UserStatus.ACTIVE ? UserStatus.INACTIVE : UserStatus.ACTIVE;
+            user.setStatus(newStatus);
+            user.setStatusVersion(user.getStatusVersion() + 1);
+            userRepository.save(user);
+            userActivityService.record(
+                    newStatus == UserStatus.ACTIVE ? ActivityType.ACTIVATED : ActivityType.DEACTIVATED, user.getRole());
+        });
+    }
+}
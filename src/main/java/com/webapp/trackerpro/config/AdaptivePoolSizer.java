@@ -0,0 +1,155 @@
+package com.webapp.trackerpro.config;
+
+import com.webapp.trackerpro.config.ConnectionPoolMonitor.PoolUsage;
+import com.webapp.trackerpro.config.ConnectionPoolMonitor.Window;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes every monitored pool between {@code min-size} and {@code max-size} from the wait
+ * measured by {@link ConnectionPoolMonitor}. A pool grows by {@code step} after an interval in
+ * which every connection was in use and borrowers waited longer than {@code target-wait} on
+ * average (or timed out); it shrinks by one after {@code shrink-after} intervals in a row
+ * with no wait over the target and at least {@code step} connections to spare.
+ *
+ * <p>max-size must stay below what the database accepts across all instances
+ * (MySQL max_connections). Growing only helps while the database has headroom; the hold
+ * times in db.pool.hold show whether the connections are busy with queries or idle in
+ * application code.
+ */
+@Component
+@Lazy(false)   // nothing injects it; must start even with spring.main.lazy-initialization
+@ConditionalOnProperty(prefix = "app.connection-pool.adaptive", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class AdaptivePoolSizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    @Autowired
+    private ConnectionPoolMonitor connectionPoolMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.connection-pool.adaptive.min-size:10}")
+    private int minSize;
+
+    @Value("${app.connection-pool.adaptive.max-size:30}")
+    private int maxSize;
+
+    @Value("${app.connection-pool.adaptive.step:2}")
+    private int step;
+
+    @Value("${app.connection-pool.adaptive.target-wait:10ms}")
+    private Duration targetWait;
+
+    @Value("${app.connection-pool.adaptive.interval:10s}")
+    private Duration interval;
+
+    @Value("${app.connection-pool.adaptive.shrink-after:6}")
+    private int shrinkAfter;
+
+    private final Map<String, Integer> quietIntervals = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private Counter grownCounter;
+    private Counter shrunkCounter;
+
+    @PostConstruct
+    public void init() {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalStateException("app.connection-pool.adaptive needs 1 <= min-size <= max-size");
+        }
+        grownCounter = resizeCounter("grow");
+        shrunkCounter = resizeCounter("shrink");
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::resizePools, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Adaptive pool sizing between {} and {} connections, target wait {} ms",
+                minSize, maxSize, targetWait.toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void resizePools() {
+        for (PoolUsage pool : connectionPoolMonitor.pools()) {
+            try {
+                resize(pool);
+            } catch (RuntimeException e) {
+                logger.warn("Could not resize pool {}: {}", pool.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void resize(PoolUsage pool) {
+        HikariDataSource dataSource = pool.dataSource();
+        Window window = pool.drainWindow();
+        if (dataSource.isClosed() || dataSource.getHikariPoolMXBean() == null) {
+            return;
+        }
+
+        int current = dataSource.getMaximumPoolSize();
+        long targetNanos = targetWait.toNanos();
+        boolean saturated = window.peakInUse() >= current
+                || dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() > 0;
+        boolean waiting = window.timeouts() > 0 || window.averageWaitNanos() > targetNanos;
+
+        if (saturated && waiting && current < maxSize) {
+            quietIntervals.remove(pool.name());
+            setSize(dataSource, pool.name(), current, Math.min(maxSize, current + step), window);
+            grownCounter.increment();
+            return;
+        }
+
+        boolean quiet = window.maxWaitNanos() <= targetNanos && window.peakInUse() <= current - step;
+        if (!quiet || current <= minSize) {
+            quietIntervals.remove(pool.name());
+            return;
+        }
+        if (quietIntervals.merge(pool.name(), 1, Integer::sum) >= shrinkAfter) {
+            quietIntervals.remove(pool.name());
+            setSize(dataSource, pool.name(), current, current - 1, window);
+            shrunkCounter.increment();
+        }
+    }
+
+    // Hikari applies a new maximum at runtime: it opens connections up to it on demand and
+    // retires idle ones above minimum-idle after idle-timeout
+    private void setSize(HikariDataSource dataSource, String name, int current, int size, Window window) {
+        dataSource.setMaximumPoolSize(size);
+        logger.info("Pool {} resized from {} to {} (peak in use {}, average wait {} ms, timeouts {})", name,
+                current, size, window.peakInUse(), TimeUnit.NANOSECONDS.toMillis(window.averageWaitNanos()),
+                window.timeouts());
+    }
+
+    private Counter resizeCounter(String direction) {
+        return Counter.builder("db.pool.resize")
+                .description("Pool size changes made by the adaptive sizer")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
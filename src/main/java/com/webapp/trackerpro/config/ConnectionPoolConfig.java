@@ -0,0 +1,31 @@
+package com.webapp.trackerpro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Puts Boot's Hikari pool under {@link ConnectionPoolMonitor} before the actuator binds its
+ * own metrics tracker. The primary and replica pools of ReadReplicaConfig are not beans and
+ * register themselves.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    // Static and lazy so the post-processor does not pull the monitor and meter registry
+    // into early initialization
+    @Bean
+    public static BeanPostProcessor connectionPoolMonitorRegistrar(ObjectProvider<ConnectionPoolMonitor> monitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool) {
+                    monitor.getObject().register(pool);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.webapp.trackerpro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hikari metrics tracker for every pool of the application. On top of the standard
+ * hikaricp.* meters it records how long each operation waited for a connection and held it
+ * ({@code db.pool.wait} / {@code db.pool.hold}, tagged with the UserService method running on
+ * the thread), counts holds over {@code app.connection-pool.long-hold-threshold}, and keeps
+ * per-pool wait figures for {@link AdaptivePoolSizer}.
+ *
+ * <p>Hikari calls the tracker on the borrowing and returning threads, so the operation is a
+ * thread-local set by {@link #withOperation}. The stack of a long hold comes from Hikari's
+ * leak detection (spring.datasource.hikari.leak-detection-threshold), which captures it when
+ * the connection is borrowed.
+ */
+@Component
+public class ConnectionPoolMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolMonitor.class);
+
+    private static final String NO_OPERATION = "other";
+
+    private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsTrackerFactory hikariMetrics;
+    private final Map<HikariDataSource, PoolUsage> pools = new ConcurrentHashMap<>();
+
+    @Value("${app.connection-pool.long-hold-threshold:2s}")
+    private Duration longHoldThreshold;
+
+    @Autowired
+    public ConnectionPoolMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.hikariMetrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+    }
+
+    /**
+     * Attributes the connections {@code work} borrows on this thread to {@code operation}.
+     * Nested calls keep the outermost operation.
+     */
+    public static <T> T withOperation(String operation, Supplier<T> work) {
+        boolean outermost = enterOperation(operation);
+        try {
+            return work.get();
+        } finally {
+            exitOperation(outermost);
+        }
+    }
+
+    static boolean enterOperation(String operation) {
+        if (OPERATION.get() != null) {
+            return false;
+        }
+        OPERATION.set(operation);
+        return true;
+    }
+
+    static void exitOperation(boolean outermost) {
+        if (outermost) {
+            OPERATION.remove();
+        }
+    }
+
+    /**
+     * Installs the tracker on {@code pool}. Must run before anything else sets a metric
+     * registry or tracker factory on it, which Hikari allows only once.
+     */
+    public void register(HikariDataSource pool) {
+        PoolUsage usage = new PoolUsage(pool);
+        pools.put(pool, usage);
+        pool.setMetricsTrackerFactory(usage);
+    }
+
+    Collection<PoolUsage> pools() {
+        return pools.values();
+    }
+
+    private static String currentOperation() {
+        String operation = OPERATION.get();
+        return operation != null ? operation : NO_OPERATION;
+    }
+
+    /** Measurements of one pool since the previous {@link PoolUsage#drainWindow()}. */
+    record Window(long acquisitions, long totalWaitNanos, long maxWaitNanos, long timeouts, int peakInUse) {
+
+        long averageWaitNanos() {
+            return acquisitions == 0 ? 0 : totalWaitNanos / acquisitions;
+        }
+    }
+
+    final class PoolUsage implements MetricsTrackerFactory {
+
+        private final HikariDataSource dataSource;
+        private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+        private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> longHoldCounters = new ConcurrentHashMap<>();
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final LongAdder timeouts = new LongAdder();
+        private final AtomicInteger inUse = new AtomicInteger();
+        private final AtomicInteger peakInUse = new AtomicInteger();
+
+        private volatile String name;
+
+        private PoolUsage(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        String name() {
+            return name != null ? name : dataSource.getPoolName();
+        }
+
+        Window drainWindow() {
+            return new Window(acquisitions.sumThenReset(), totalWaitNanos.sumThenReset(),
+                    maxWaitNanos.getAndSet(0), timeouts.sumThenReset(), peakInUse.getAndSet(inUse.get()));
+        }
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            this.name = poolName;
+            IMetricsTracker standard = hikariMetrics.create(poolName, poolStats);
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                    standard.recordConnectionCreatedMillis(connectionCreatedMillis);
+                }
+
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    standard.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+                    timer(waitTimers, "db.pool.wait", "Time spent waiting for a pooled connection")
+                            .record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+                    acquisitions.increment();
+                    totalWaitNanos.add(elapsedAcquiredNanos);
+                    maxWaitNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+                    peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    standard.recordConnectionUsageMillis(elapsedBorrowedMillis);
+                    inUse.decrementAndGet();
+                    timer(holdTimers, "db.pool.hold", "Time a connection was held between borrow and close")
+                            .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+                    if (elapsedBorrowedMillis >= longHoldThreshold.toMillis()) {
+                        String operation = currentOperation();
+                        longHoldCounters.computeIfAbsent(operation, op -> Counter.builder("db.pool.long.hold")
+                                .description("Connections held longer than app.connection-pool.long-hold-threshold")
+                                .tag("pool", poolName)
+                                .tag("operation", op)
+                                .register(meterRegistry)).increment();
+                        logger.warn("Connection from pool {} held for {} ms by {}", poolName, elapsedBorrowedMillis,
+                                operation);
+                    }
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    standard.recordConnectionTimeout();
+                    timeouts.increment();
+                }
+
+                @Override
+                public void close() {
+                    standard.close();
+                }
+            };
+        }
+
+        private Timer timer(Map<String, Timer> timers, String meterName, String description) {
+            return timers.computeIfAbsent(currentOperation(), operation -> Timer.builder(meterName)
+                    .description(description)
+                    .tag("pool", name())
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -4,16 +4,28 @@ import com.webapp.trackerpro.model.Role;
 import com.webapp.trackerpro.model.User;
 import com.webapp.trackerpro.model.UserStatus;
 import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.service.UserKeyFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.Executor;
+
+/**
+ * Seeds the default admin account. Runs on the task executor once the application is ready,
+ * so neither the lookup nor the first-boot BCrypt encode delays start-up; the admin can log
+ * in a moment after the instance starts serving. Instances starting together may both try
+ * the insert, and the unique email index lets only one succeed.
+ */
 @Component
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
 
@@ -23,21 +35,33 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserKeyFilter userKeyFilter;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
     @Value("${app.admin.email}")
     private String adminEmail;
 
     @Value("${app.admin.password}")
     private String adminPassword;
 
-    @Override
-    public void run(String... args) throws Exception {
-        createDefaultAdminUser();
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        applicationTaskExecutor.execute(this::createDefaultAdminUser);
     }
 
     private void createDefaultAdminUser() {
         logger.info("Checking for default admin user...");
-        
-        if (!userRepository.existsByEmail(adminEmail)) {
+
+        try {
+            if (userRepository.existsByEmail(adminEmail)) {
+                logger.info("Default admin user already exists");
+                return;
+            }
+
             User adminUser = new User();
             adminUser.setFirstName("Admin");
             adminUser.setLastName("User");
@@ -48,9 +72,13 @@ public class DataInitializer implements CommandLineRunner {
             adminUser.setStatus(UserStatus.ACTIVE);
 
             userRepository.save(adminUser);
+            // The key filter may have been seeded before this insert
+            userKeyFilter.add(adminUser.getEmail(), adminUser.getMobile());
             logger.info("Default admin user created with email: {}", adminEmail);
-        } else {
-            logger.info("Default admin user already exists");
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Default admin user was created by another instance");
+        } catch (RuntimeException e) {
+            logger.error("Could not create the default admin user: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package com.webapp.trackerpro.config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flyway migration 1.1, run before V2 creates the unique index uk_user_mobile. Databases from
+ * before that index may hold the same mobile on several users, and V2 would then stop half-way
+ * with a bare constraint error. Empty mobiles are stored as NULL (no mobile), which never
+ * collides. Real duplicates are not resolved here, since picking the account that keeps a
+ * number is a support decision. The migration fails instead and lists the numbers and user IDs
+ * to fix before starting again.
+ */
+@Component
+public class DuplicateMobileCheck implements JavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateMobileCheck.class);
+
+    private static final int REPORTED = 50;
+
+    private static final String DUPLICATES =
+            "SELECT u.mobile, u.id FROM users u WHERE u.mobile IN " +
+            "(SELECT mobile FROM users WHERE mobile IS NOT NULL GROUP BY mobile HAVING COUNT(*) > 1) " +
+            "ORDER BY u.mobile, u.id";
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("1.1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "check duplicate mobiles";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            int emptied = statement.executeUpdate("UPDATE users SET mobile = NULL WHERE mobile = ''");
+            if (emptied > 0) {
+                logger.info("Stored {} empty mobile numbers as NULL", emptied);
+            }
+        }
+
+        Map<String, List<Long>> duplicates = new LinkedHashMap<>();
+        try (PreparedStatement statement = context.getConnection().prepareStatement(DUPLICATES);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                duplicates.computeIfAbsent(rs.getString(1), mobile -> new ArrayList<>()).add(rs.getLong(2));
+            }
+        }
+        if (duplicates.isEmpty()) {
+            return;
+        }
+
+        StringBuilder report = new StringBuilder()
+                .append(duplicates.size())
+                .append(" mobile numbers are shared by several users, so uk_user_mobile cannot be created. ")
+                .append("Give each number to one user, then restart:");
+        duplicates.entrySet().stream().limit(REPORTED).forEach(entry ->
+                report.append("\n  ").append(entry.getKey()).append(": user IDs ").append(entry.getValue()));
+        if (duplicates.size() > REPORTED) {
+            report.append("\n  ... and ").append(duplicates.size() - REPORTED).append(" more");
+        }
+        throw new FlywayException(report.toString());
+    }
+}
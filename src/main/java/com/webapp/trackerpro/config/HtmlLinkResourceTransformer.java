@@ -0,0 +1,59 @@
+package com.webapp.trackerpro.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML counterpart of Spring's CssLinkResourceTransformer: rewrites src/href attributes to the
+ * fingerprinted URLs of the resource chain, so the static pages can stay plain files while
+ * their assets are cached forever. Absolute, data, anchor and templated links are left alone.
+ */
+public class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LINK = Pattern.compile("\\b(src|href)=\"([^\"]+)\"");
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource, ResourceTransformerChain chain)
+            throws IOException {
+        resource = chain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+        Matcher matcher = LINK.matcher(content);
+        StringBuilder rewritten = new StringBuilder(content.length() + 256);
+        boolean changed = false;
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            // Relative links resolve against this page's own chain, which has no versioning,
+            // so look them up by absolute path across all resource handlers
+            String resolved = isRewritable(link)
+                    ? resolveUrlPath(toAbsolutePath(link, request), request, resource, chain) : null;
+            String replacement = resolved != null ? resolved : link;
+            changed |= !replacement.equals(link);
+            matcher.appendReplacement(rewritten,
+                    Matcher.quoteReplacement(matcher.group(1) + "=\"" + replacement + "\""));
+        }
+        if (!changed) {
+            return resource;
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isRewritable(String link) {
+        return !link.contains(":") && !link.startsWith("//") && !link.startsWith("#")
+                && !link.contains("{") && !link.endsWith(".html");
+    }
+}
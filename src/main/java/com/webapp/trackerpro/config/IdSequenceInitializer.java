@@ -0,0 +1,83 @@
+package com.webapp.trackerpro.config;
+
+import com.webapp.trackerpro.model.User;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Moves users_seq past the highest existing users.id. Databases created while the
+ * entity still used IDENTITY start the new sequence at 1, which would collide. The sequence
+ * only ever moves forward: instances starting together may be allocating from it already.
+ * Runs once the Flyway migrations are in place; it only needs JDBC, so with lazy
+ * initialization Hibernate still starts on first use.
+ */
+@Component
+@Lazy(false)   // nothing injects it; must start even with spring.main.lazy-initialization
+@DependsOn("flywayInitializer")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    private static final String H2_SEQUENCE_VALUE =
+            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'USERS_SEQ'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignUserSequence() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        long target = (maxId != null ? maxId : 0) + User.ID_ALLOCATION_SIZE;
+
+        if ("MySQL".equalsIgnoreCase(product)) {
+            // MySQL has no sequences; Hibernate emulates users_seq as a single-row table. One
+            // conditional UPDATE, so a block another instance allocates meanwhile is never undone
+            int advanced = jdbcTemplate.update("UPDATE users_seq SET next_val = ? WHERE next_val < ?", target, target);
+            if (advanced > 0) {
+                logger.info("Advanced users_seq to {}", target);
+            }
+        } else if ("H2".equalsIgnoreCase(product)) {
+            Long nextVal = jdbcTemplate.queryForObject(H2_SEQUENCE_VALUE, Long.class);
+            if (nextVal != null && nextVal >= target) {
+                return;
+            }
+            // RESTART WITH is unconditional, so re-check and restart with every other session paused
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET EXCLUSIVE 1");
+                    try {
+                        long current = currentH2Value(statement);
+                        if (current < target) {
+                            statement.execute("ALTER SEQUENCE users_seq RESTART WITH " + target);
+                            logger.info("Advanced users_seq from {} to {}", current, target);
+                        }
+                    } finally {
+                        statement.execute("SET EXCLUSIVE 0");
+                    }
+                }
+                return null;
+            });
+        } else {
+            logger.warn("Not aligning users_seq for unsupported database: {}", product);
+        }
+    }
+
+    private static long currentH2Value(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(H2_SEQUENCE_VALUE)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
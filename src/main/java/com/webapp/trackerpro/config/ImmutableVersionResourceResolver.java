@@ -0,0 +1,146 @@
+package com.webapp.trackerpro.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.ResourceTransformer;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * VersionResourceResolver that marks what it resolved through a version in the URL as
+ * immutable. A resource found under its plain path (a link nothing rewrote, or a file whose
+ * name merely looks versioned) keeps the handler's revalidating Cache-Control, so a redeploy
+ * reaches every browser that fetched it. Register {@link #keepCacheControl()} as the chain's
+ * first transformer: content transformers return a plain TransformedResource, which would
+ * drop the header.
+ */
+public class ImmutableVersionResourceResolver extends VersionResourceResolver {
+
+    private final CacheControl versionedCacheControl;
+
+    public ImmutableVersionResourceResolver(CacheControl versionedCacheControl) {
+        this.versionedCacheControl = versionedCacheControl;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource plain = chain.resolveResource(request, requestPath, locations);
+        if (plain != null) {
+            return plain;
+        }
+        Resource versioned = super.resolveResourceInternal(request, requestPath, locations, chain);
+        return versioned != null ? new ImmutableResource(versioned, versionedCacheControl) : null;
+    }
+
+    public static ResourceTransformer keepCacheControl() {
+        return (request, resource, chain) -> {
+            Resource transformed = chain.transform(request, resource);
+            if (transformed != resource && resource instanceof ImmutableResource immutable) {
+                return new ImmutableResource(transformed, immutable.cacheControl);
+            }
+            return transformed;
+        };
+    }
+
+    // Delegates everything; createRelative keeps the wrapper so the .br/.gz variants stay immutable
+    private static final class ImmutableResource implements HttpResource {
+
+        private final Resource original;
+        private final CacheControl cacheControl;
+
+        private ImmutableResource(Resource original, CacheControl cacheControl) {
+            this.original = original;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = original instanceof HttpResource httpResource
+                    ? httpResource.getResponseHeaders() : new HttpHeaders();
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return new ImmutableResource(original.createRelative(relativePath), cacheControl);
+        }
+
+        @Override
+        public boolean exists() {
+            return original.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return original.isReadable();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return original.isOpen();
+        }
+
+        @Override
+        public boolean isFile() {
+            return original.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return original.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return original.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return original.getFile();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return original.readableChannel();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return original.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return original.getDescription();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.webapp.trackerpro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces Boot's single pool with a primary plus read replicas when
+ * {@code app.read-replicas.urls} is set. Every pool takes its settings from
+ * spring.datasource.hikari.*; replicas are read-only, fail fast, and may be down at start-up.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "urls")
+public class ReadReplicaConfig {
+
+    @Value("${app.read-replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.read-replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.read-replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.read-replicas.connection-timeout:2s}")
+    private Duration replicaConnectionTimeout;
+
+    @Value("${app.read-replicas.read-your-writes-window:2s}")
+    private Duration readYourWritesWindow;
+
+    @Value("${app.read-replicas.health-check-interval:5s}")
+    private Duration healthCheckInterval;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                             ConnectionPoolMonitor connectionPoolMonitor,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource primary = newPool(environment, properties.determineDriverClassName(), "primary",
+                properties.determineUrl(), properties.determineUsername(), properties.determinePassword());
+        connectionPoolMonitor.register(primary);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = newPool(environment, properties.determineDriverClassName(), "replica-" + (i + 1),
+                    replicaUrls.get(i).trim(), replicaUsername, replicaPassword);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            connectionPoolMonitor.register(replica);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesWindow, healthCheckInterval, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource newPool(Environment environment, String driverClassName, String poolName,
+                                            String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setDriverClassName(driverClassName);
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        return pool;
+    }
+}
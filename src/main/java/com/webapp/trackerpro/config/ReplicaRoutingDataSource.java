@@ -0,0 +1,230 @@
+package com.webapp.trackerpro.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.webapp.trackerpro.security.TokenClaims;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica (round robin) and
+ * everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy: the
+ * transaction manager asks for a connection before the read-only flag is bound to the thread,
+ * and the proxy defers the real lookup to the first statement.
+ *
+ * <p>A user who has just written reads from the primary for {@code readYourWritesWindow},
+ * which should exceed normal replica lag. Replicas that fail a connection attempt or the
+ * periodic health check are skipped until a later check succeeds.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    private final Counter readWriteRoutes;
+    private final Counter replicaRoutes;
+    private final Counter readYourWritesRoutes;
+    private final Counter forcedPrimaryRoutes;
+    private final Counter unavailableRoutes;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    Duration readYourWritesWindow, Duration healthCheckInterval,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+
+        readWriteRoutes = routeCounter(meterRegistry, "primary", "not-read-only");
+        replicaRoutes = routeCounter(meterRegistry, "replica", "read-only");
+        readYourWritesRoutes = routeCounter(meterRegistry, "primary", "read-your-writes");
+        forcedPrimaryRoutes = routeCounter(meterRegistry, "primary", "forced");
+        unavailableRoutes = routeCounter(meterRegistry, "primary", "replica-unavailable");
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.up", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 while the replica is used for read-only transactions")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs {@code work} with every connection it opens taken from the primary. For reads
+     * that must reflect a just-committed change made by another thread, such as dashboard
+     * stats recomputed after a user event.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = chooseReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e);
+                unavailableRoutes.increment();
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private Replica chooseReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            readWriteRoutes.increment();
+            return null;
+        }
+        if (FORCE_PRIMARY.get() != null) {
+            forcedPrimaryRoutes.increment();
+            return null;
+        }
+        Long userId = currentUserId();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            readYourWritesRoutes.increment();
+            return null;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                replicaRoutes.increment();
+                return replica;
+            }
+        }
+        unavailableRoutes.increment();
+        return null;
+    }
+
+    // The window is opened when the write starts and restarted when it completes, so it
+    // always covers the replication delay after the commit
+    private void recordWrite() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        recentWriters.put(userId, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof TokenClaims claims
+                ? claims.getUserId() : null;
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.route")
+                .description("Connections handed out, by the database they were routed to")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private final String name;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+            this.name = dataSource.getPoolName();
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                logger.info("Replica {} is back; routing read-only transactions to it", name);
+            }
+        }
+
+        private void markDown(Exception cause) {
+            if (healthy) {
+                healthy = false;
+                logger.warn("Replica {} is unavailable, reading from the primary: {}", name,
+                        cause != null ? cause.getMessage() : "connection not valid");
+            }
+        }
+    }
+}
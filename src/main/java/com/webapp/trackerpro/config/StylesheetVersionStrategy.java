@@ -0,0 +1,52 @@
+package com.webapp.trackerpro.config;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content hash for stylesheets that also covers the files they link with url() or @import.
+ * CssLinkResourceTransformer rewrites those links to fingerprinted URLs, so the served CSS
+ * changes when a linked file does; hashing only the stylesheet's own bytes would keep its URL,
+ * and browsers would hold on to a copy pointing at the old, no longer resolvable, version.
+ * Relative links are followed one level deep; absolute and data links do not change the hash.
+ */
+public class StylesheetVersionStrategy extends ContentVersionStrategy {
+
+    private static final Pattern LINK =
+            Pattern.compile("url\\(\\s*['\"]?([^'\")]+?)['\"]?\\s*\\)|@import\\s+['\"]([^'\"]+)['\"]");
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        String version = super.getResourceVersion(resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".css")) {
+            return version;
+        }
+
+        try {
+            String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+            StringBuilder combined = new StringBuilder(version);
+            Matcher matcher = LINK.matcher(content);
+            while (matcher.find()) {
+                String link = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                if (link.contains(":") || link.startsWith("/") || link.startsWith("#")) {
+                    continue;
+                }
+                Resource linked = resource.createRelative(link);
+                if (linked.isReadable()) {
+                    combined.append(':').append(super.getResourceVersion(linked));
+                }
+            }
+            return DigestUtils.md5DigestAsHex(combined.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return version;
+        }
+    }
+}
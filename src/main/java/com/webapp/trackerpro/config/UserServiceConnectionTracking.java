@@ -0,0 +1,28 @@
+package com.webapp.trackerpro.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags the connections borrowed during a UserService call with the method name. Ordered
+ * ahead of the transaction interceptor so the connection opened for the transaction counts.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UserServiceConnectionTracking {
+
+    @Around("execution(public * com.webapp.trackerpro.service.UserService.*(..))")
+    public Object trackConnections(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outermost = ConnectionPoolMonitor.enterOperation(joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ConnectionPoolMonitor.exitOperation(outermost);
+        }
+    }
+}
@@ -1,24 +1,52 @@
 package com.webapp.trackerpro.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final Duration ASSET_MAX_AGE = Duration.ofDays(365);
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/static/**")
                 .addResourceLocations("classpath:/static/");
-        
+
+        // Pages keep stable URLs and are revalidated on every visit; their asset links are
+        // rewritten to fingerprinted URLs on the way out (cached after the first request)
+        registry.addResourceHandler("/*.html")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addTransformer(new HtmlLinkResourceTransformer());
+
+        // Assets are linked under content-hash URLs; only those are cached for a year. A plain
+        // URL (one no page or stylesheet rewrote) is revalidated like a page. Stylesheet links
+        // are rewritten too, and a stylesheet's hash covers the files it links. The build's
+        // .br/.gz variants are picked by Accept-Encoding when present.
         registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/");
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ImmutableVersionResourceResolver(
+                        CacheControl.maxAge(ASSET_MAX_AGE).cachePublic().immutable())
+                        .addVersionStrategy(new StylesheetVersionStrategy(), "/**/*.css")
+                        .addContentVersionStrategy("/**"))
+                .addTransformer(ImmutableVersionResourceResolver.keepCacheControl())
+                .addTransformer(new CssLinkResourceTransformer());
     }
 
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         registry.addViewController("/").setViewName("forward:/index.html");
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,42 @@
 package com.webapp.trackerpro.controller;
 
+import com.webapp.trackerpro.dto.ActivityRollupDto;
+import com.webapp.trackerpro.dto.ActivityTrendsResponse;
+import com.webapp.trackerpro.dto.ApiResponse;
+import com.webapp.trackerpro.dto.BulkActionResultDto;
+import com.webapp.trackerpro.dto.BulkUserActionDto;
+import com.webapp.trackerpro.dto.CursorPage;
+import com.webapp.trackerpro.dto.ImportResultDto;
+import com.webapp.trackerpro.dto.PagedResponse;
 import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.exception.BusinessException;
 import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.security.TokenClaims;
+import com.webapp.trackerpro.security.TokenService;
+import com.webapp.trackerpro.service.DashboardStreamService;
+import com.webapp.trackerpro.service.UserActivityService;
+import com.webapp.trackerpro.service.UserExportService;
+import com.webapp.trackerpro.service.UserImportService;
 import com.webapp.trackerpro.service.UserService;
+import com.webapp.trackerpro.service.UserTableVersion;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -22,173 +50,265 @@ public class AdminController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
+    @Autowired
+    private UserTableVersion userTableVersion;
+
+    @Autowired
+    private TokenService tokenService;
+
+    // Let browsers keep the body but revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @GetMapping("/pending-registrations")
-    public ResponseEntity<?> getPendingRegistrations() {
+    public ResponseEntity<PagedResponse<UserResponseDto>> getPendingRegistrations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching pending registrations");
         
-        try {
-            List<UserResponseDto> pendingUsers = userService.getPendingRegistrations();
-            logger.info("Found {} pending registrations", pendingUsers.size());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "data", pendingUsers,
-                "count", pendingUsers.size()
-            ));
-        } catch (Exception e) {
-            logger.error("Error fetching pending registrations: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        return userTableVersion.read(eTag -> {
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+
+            CursorPage<UserResponseDto> page = userService.getPendingRegistrationsPage(cursor, limit);
+            logger.info("Found {} pending registrations", page.getItems().size());
+
+            return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(PagedResponse.of(page));
+        });
     }
 
     @PostMapping("/approve-user/{userId}")
-    public ResponseEntity<?> approveUser(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<UserResponseDto>> approveUser(@PathVariable Long userId) {
         logger.info("Approving user with ID: {}", userId);
         
-        try {
-            UserResponseDto approvedUser = userService.approveUser(userId);
-            logger.info("User approved successfully: {}", approvedUser.getEmail());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "User approved successfully!",
-                "user", approvedUser
-            ));
-        } catch (Exception e) {
-            logger.error("Error approving user {}: {}", userId, e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        UserResponseDto approvedUser = userService.approveUser(userId);
+        logger.info("User approved successfully: {}", approvedUser.getEmail());
+        
+        return ResponseEntity.ok(ApiResponse.of("User approved successfully!", approvedUser));
     }
 
     @PostMapping("/reject-user/{userId}")
-    public ResponseEntity<?> rejectUser(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<Void>> rejectUser(@PathVariable Long userId) {
         logger.info("Rejecting user with ID: {}", userId);
         
-        try {
-            userService.rejectUser(userId);
-            logger.info("User rejected successfully with ID: {}", userId);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "User rejected successfully!"
-            ));
-        } catch (Exception e) {
-            logger.error("Error rejecting user {}: {}", userId, e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        userService.rejectUser(userId);
+        logger.info("User rejected successfully with ID: {}", userId);
+        
+        return ResponseEntity.ok(ApiResponse.message("User rejected successfully!"));
+    }
+
+    @PostMapping("/bulk/approve")
+    public ResponseEntity<ApiResponse<BulkActionResultDto>> bulkApproveUsers(@Valid @RequestBody BulkUserActionDto request) {
+        logger.info("Bulk approve request received: {}", request);
+        
+        BulkActionResultDto result = userService.bulkApproveUsers(request);
+        
+        return ResponseEntity.ok(ApiResponse.of(result.getUpdated() + " user(s) approved", result));
+    }
+
+    @PostMapping("/bulk/reject")
+    public ResponseEntity<ApiResponse<BulkActionResultDto>> bulkRejectUsers(@Valid @RequestBody BulkUserActionDto request) {
+        logger.info("Bulk reject request received: {}", request);
+        
+        BulkActionResultDto result = userService.bulkRejectUsers(request);
+        
+        return ResponseEntity.ok(ApiResponse.of(result.getUpdated() + " user(s) rejected", result));
+    }
+
+    @PostMapping("/bulk/toggle-status")
+    public ResponseEntity<ApiResponse<BulkActionResultDto>> bulkToggleUserStatus(@Valid @RequestBody BulkUserActionDto request) {
+        logger.info("Bulk toggle status request received: {}", request);
+        
+        BulkActionResultDto result = userService.bulkToggleUserStatus(request);
+        
+        return ResponseEntity.ok(ApiResponse.of(result.getUpdated() + " user(s) updated", result));
     }
 
     @GetMapping("/users")
-    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String role) {
+    public ResponseEntity<PagedResponse<UserResponseDto>> getAllUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching users with role filter: {}", role);
         
-        try {
-            List<UserResponseDto> users;
-            if (role != null && !role.isEmpty() && !"all".equalsIgnoreCase(role)) {
-                Role roleEnum = Role.fromString(role);
-                users = userService.getUsersByRole(roleEnum);
-            } else {
-                users = userService.getAllUsers();
+        Role roleEnum = role != null && !role.isEmpty() && !"all".equalsIgnoreCase(role) ? Role.fromString(role) : null;
+        return userTableVersion.read(eTag -> {
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
             }
-            
-            logger.info("Found {} users", users.size());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "data", users,
-                "count", users.size()
-            ));
-        } catch (Exception e) {
-            logger.error("Error fetching users: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
+
+            CursorPage<UserResponseDto> page = roleEnum != null
+                    ? userService.getUsersByRolePage(roleEnum, cursor, limit)
+                    : userService.getAllUsersPage(cursor, limit);
+            logger.info("Found {} users", page.getItems().size());
+
+            return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(PagedResponse.of(page));
+        });
+    }
+
+    // Answered from this instance's UserSearchIndex. Writes through other instances are not in
+    // it until its next rebuild (restart or an import here), so results can lag behind /users.
+    @GetMapping("/users/search")
+    public ResponseEntity<PagedResponse<UserResponseDto>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        CursorPage<UserResponseDto> page = userService.searchUsers(query, cursor, limit);
+
+        logger.info("Search matched {} users on this page", page.getItems().size());
+
+        return ResponseEntity.ok(PagedResponse.of(page));
+    }
+
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        logger.info("Export requested with format: {}", format);
+
+        UserExportService.Format exportFormat = UserExportService.Format.fromString(format);
+
+        StreamingResponseBody body = outputStream -> userExportService.exportUsers(exportFormat, outputStream);
+        String filename = "users-" + LocalDate.now() + "." + exportFormat.getExtension();
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+
+    @PostMapping(value = "/users/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportResultDto>> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean activate) {
+        logger.info("Import requested for file: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        
+        UserImportService.Format importFormat;
+        if (format != null && !format.isEmpty()) {
+            importFormat = UserImportService.Format.fromString(format);
+        } else {
+            String filename = file.getOriginalFilename();
+            importFormat = filename != null && filename.toLowerCase().endsWith(".json")
+                ? UserImportService.Format.JSON
+                : UserImportService.Format.CSV;
         }
+        
+        ImportResultDto result;
+        try {
+            result = userImportService.importUsers(file.getInputStream(), importFormat, activate);
+        } catch (IOException e) {
+            throw new BusinessException("Could not read import file: " + e.getMessage());
+        }
+        
+        String message = result.getImported() + " of " + result.getTotalRows() + " user(s) imported";
+        return ResponseEntity.ok(ApiResponse.of(message, result));
     }
 
     @PostMapping("/toggle-user-status/{userId}")
-    public ResponseEntity<?> toggleUserStatus(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<Void>> toggleUserStatus(@PathVariable Long userId) {
         logger.info("Toggling status for user with ID: {}", userId);
         
-        try {
-            userService.toggleUserStatus(userId);
-            logger.info("User status toggled successfully for ID: {}", userId);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "User status updated successfully!"
-            ));
-        } catch (Exception e) {
-            logger.error("Error toggling user status {}: {}", userId, e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        userService.toggleUserStatus(userId);
+        logger.info("User status toggled successfully for ID: {}", userId);
+        
+        return ResponseEntity.ok(ApiResponse.message("User status updated successfully!"));
     }
 
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<?> deleteUser(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long userId) {
         logger.info("Deleting user with ID: {}", userId);
         
-        try {
-            userService.deleteUser(userId);
-            logger.info("User deleted successfully with ID: {}", userId);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "User deleted successfully!"
-            ));
-        } catch (Exception e) {
-            logger.error("Error deleting user {}: {}", userId, e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        userService.deleteUser(userId);
+        logger.info("User deleted successfully with ID: {}", userId);
+        
+        return ResponseEntity.ok(ApiResponse.message("User deleted successfully!"));
+    }
+
+    // EventSource cannot send headers, so the page opens /stream with ?stream_token= from here
+    // instead of putting its bearer token in the URL
+    @PostMapping("/stream-token")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> issueStreamToken(
+            @AuthenticationPrincipal TokenClaims claims) {
+        String token = tokenService.issueStreamToken(claims.getUserId(), claims.getRole(), claims.getStatusVersion());
+        return ResponseEntity.ok(ApiResponse.of(Map.of(
+                "token", token,
+                "expiresIn", tokenService.getStreamTtl().toSeconds())));
+    }
+
+    // Authenticated by a stream token in ?stream_token=, see /stream-token
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        logger.info("Opening dashboard event stream");
+        return dashboardStreamService.subscribe();
     }
 
     @GetMapping("/dashboard-stats")
-    public ResponseEntity<?> getDashboardStats() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDashboardStats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Fetching dashboard statistics");
         
-        try {
-            Long totalStudents = userService.getActiveUsersCountByRole(Role.STUDENT);
-            Long totalFaculty = userService.getActiveUsersCountByRole(Role.FACULTY);
-            Long totalHR = userService.getActiveUsersCountByRole(Role.HR);
-            Long pendingRequests = userService.getPendingRegistrationsCount();
-            
-            Map<String, Object> stats = Map.of(
-                "totalStudents", totalStudents,
-                "totalFaculty", totalFaculty,
-                "totalHR", totalHR,
-                "pendingRequests", pendingRequests,
-                "activeBatches", 15, // Static data for now
-                "totalUsers", totalStudents + totalFaculty + totalHR
-            );
-            
+        return userTableVersion.read(eTag -> {
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+
+            Map<String, Object> stats = userService.getDashboardStats();
             logger.info("Dashboard stats: {}", stats);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "data", stats
-            ));
-        } catch (Exception e) {
-            logger.error("Error fetching dashboard stats: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
+
+            return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(ApiResponse.of(stats));
+        });
+    }
+
+    @GetMapping("/stats/trends")
+    public ResponseEntity<ActivityTrendsResponse> getActivityTrends(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String role) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        logger.info("Fetching activity trends from {} to {} with role filter: {}", start, end, role);
+        
+        Role roleEnum = null;
+        if (role != null && !role.isEmpty() && !"all".equalsIgnoreCase(role)) {
+            roleEnum = Role.fromString(role);
         }
+        
+        List<ActivityRollupDto> trends = userActivityService.getTrends(start, end, roleEnum);
+        
+        return ResponseEntity.ok(ActivityTrendsResponse.of(start, end, trends));
+    }
+
+    // If-None-Match may list several tags or "*"; weak comparison is allowed for GET
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
     }
 }
\ No newline at end of file
@@ -1,17 +1,32 @@
 package com.webapp.trackerpro.controller;
 
+import com.webapp.trackerpro.dto.ApiResponse;
+import com.webapp.trackerpro.dto.AuthResponse;
 import com.webapp.trackerpro.dto.LoginDto;
 import com.webapp.trackerpro.dto.UserRegistrationDto;
 import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.exception.BusinessException;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.security.LoginRateLimiter;
+import com.webapp.trackerpro.security.TokenClaims;
+import com.webapp.trackerpro.security.TokenRevocationRegistry;
+import com.webapp.trackerpro.security.TokenService;
 import com.webapp.trackerpro.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -23,93 +38,117 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody UserRegistrationDto registrationDto) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> registerUser(@Valid @RequestBody UserRegistrationDto registrationDto) {
         logger.info("Registration request received for email: {}", registrationDto.getEmail());
         
-        try {
-            UserResponseDto userResponse = userService.registerUser(registrationDto);
-            logger.info("User registered successfully: {}", userResponse.getEmail());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Registration successful! Your account is pending approval.",
-                "user", userResponse
-            ));
-        } catch (Exception e) {
-            logger.error("Registration failed for email: {}, error: {}", registrationDto.getEmail(), e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        return userService.registerUser(registrationDto)
+            .whenComplete(logFailure("Registration", registrationDto.getEmail()))
+            .thenApply(userResponse -> {
+                logger.info("User registered successfully: {}", userResponse.getEmail());
+                
+                return ResponseEntity.ok(AuthResponse.registered(
+                    "Registration successful! Your account is pending approval.", userResponse));
+            });
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> loginUser(@Valid @RequestBody LoginDto loginDto) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> loginUser(@Valid @RequestBody LoginDto loginDto,
+                                                                     HttpServletRequest request) {
         logger.info("Login request received for email: {}", loginDto.getEmail());
         
-        try {
-            UserResponseDto userResponse = userService.authenticateUser(loginDto);
-            logger.info("User logged in successfully: {}", userResponse.getEmail());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Login successful!",
-                "user", userResponse
-            ));
-        } catch (Exception e) {
-            logger.error("Login failed for email: {}, error: {}", loginDto.getEmail(), e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
-        }
+        loginRateLimiter.checkAllowed(loginDto.getEmail(), request.getRemoteAddr());
+        return userService.authenticateUser(loginDto)
+            .whenComplete(logFailure("Login", loginDto.getEmail()))
+            .thenApply(userResponse -> {
+                logger.info("User logged in successfully: {}", userResponse.getEmail());
+                
+                return ResponseEntity.ok(authenticated("Login successful!", userResponse));
+            });
     }
 
     @PostMapping("/admin/login")
-    public ResponseEntity<?> adminLogin(@Valid @RequestBody LoginDto loginDto) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> adminLogin(@Valid @RequestBody LoginDto loginDto,
+                                                                      HttpServletRequest request) {
         logger.info("Admin login request received for email: {}", loginDto.getEmail());
         
+        loginRateLimiter.checkAllowed(loginDto.getEmail(), request.getRemoteAddr());
+        return userService.authenticateUser(loginDto)
+            .whenComplete(logFailure("Admin login", loginDto.getEmail()))
+            .thenApply(userResponse -> {
+                // Verify it's an admin user
+                if (userResponse.getRole() != Role.ADMIN) {
+                    logger.warn("Non-admin user attempted admin login: {}", loginDto.getEmail());
+                    throw new BusinessException("Access denied. Admin privileges required.");
+                }
+                
+                logger.info("Admin logged in successfully: {}", userResponse.getEmail());
+                
+                return ResponseEntity.ok(authenticated("Admin login successful!", userResponse)
+                    .withRedirect("/adminDashboard.html"));
+            });
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refreshToken(@RequestBody Map<String, String> request) {
+        logger.info("Token refresh request received");
+        
+        TokenClaims claims = tokenService.verify(request.get("refreshToken"), TokenService.REFRESH);
+        if (claims == null || tokenRevocationRegistry.isRevoked(claims)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+        }
+        
+        UserResponseDto userResponse;
         try {
-            UserResponseDto userResponse = userService.authenticateUser(loginDto);
-            
-            // Verify it's an admin user
-            if (!"ADMIN".equals(userResponse.getRole().name())) {
-                logger.warn("Non-admin user attempted admin login: {}", loginDto.getEmail());
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "message", "Access denied. Admin privileges required."
-                ));
-            }
-            
-            logger.info("Admin logged in successfully: {}", userResponse.getEmail());
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Admin login successful!",
-                "user", userResponse,
-                "redirectUrl", "/adminDashboard.html"
-            ));
-        } catch (Exception e) {
-            logger.error("Admin login failed for email: {}, error: {}", loginDto.getEmail(), e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", e.getMessage()
-            ));
+            userResponse = userService.refreshSession(claims.getUserId(), claims.getStatusVersion());
+        } catch (BusinessException e) {
+            logger.warn("Token refresh failed for user ID: {}, error: {}", claims.getUserId(), e.getMessage());
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage());
         }
+        logger.info("Token refreshed for user ID: {}", claims.getUserId());
+        
+        return ResponseEntity.ok(authenticated("Token refreshed", userResponse));
     }
 
     @PostMapping("/forgot-password")
-    public ResponseEntity<?> forgotPassword(@RequestBody Map<String, String> request) {
+    public ResponseEntity<ApiResponse<Void>> forgotPassword(@RequestBody Map<String, String> request) {
         String emailOrMobile = request.get("emailOrMobile");
         logger.info("Forgot password request received for: {}", emailOrMobile);
         
         // For now, just return a success message
         // In a real application, you would send a password reset email/SMS
-        return ResponseEntity.ok(Map.of(
-            "success", true,
-            "message", "If the email/mobile exists in our system, you will receive password reset instructions."
-        ));
+        return ResponseEntity.ok(ApiResponse.message(
+            "If the email/mobile exists in our system, you will receive password reset instructions."));
+    }
+
+    // Last line of defence: tokens are the only credential, so never sign one for an inactive account
+    private AuthResponse authenticated(String message, UserResponseDto user) {
+        if (user.getStatus() != UserStatus.ACTIVE) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Account access denied.");
+        }
+        return new AuthResponse(true, message, user,
+            tokenService.issueAccessToken(user.getId(), user.getRole(), user.getStatusVersion()),
+            tokenService.issueRefreshToken(user.getId(), user.getRole(), user.getStatusVersion()),
+            tokenService.getAccessTtl().toSeconds(),
+            null);
+    }
+
+    // GlobalExceptionHandler builds the response; this only keeps the email in the log
+    private static <T> BiConsumer<T, Throwable> logFailure(String action, String email) {
+        return (result, ex) -> {
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                logger.warn("{} failed for email: {}, error: {}", action, email, cause.getMessage());
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.webapp.trackerpro.dto;
+
+import com.webapp.trackerpro.model.Role;
+
+import java.time.LocalDate;
+
+public class ActivityRollupDto {
+    private LocalDate date;
+    private Role role;
+    private long registrations;
+    private long approvals;
+    private long rejections;
+    private long activations;
+    private long deactivations;
+    private long deletions;
+
+    // Constructors
+    public ActivityRollupDto() {}
+
+    public ActivityRollupDto(LocalDate date, Role role, long registrations, long approvals, long rejections,
+                             long activations, long deactivations, long deletions) {
+        this.date = date;
+        this.role = role;
+        this.registrations = registrations;
+        this.approvals = approvals;
+        this.rejections = rejections;
+        this.activations = activations;
+        this.deactivations = deactivations;
+        this.deletions = deletions;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public void setRole(Role role) {
+        this.role = role;
+    }
+
+    public long getRegistrations() {
+        return registrations;
+    }
+
+    public void setRegistrations(long registrations) {
+        this.registrations = registrations;
+    }
+
+    public long getApprovals() {
+        return approvals;
+    }
+
+    public void setApprovals(long approvals) {
+        this.approvals = approvals;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(long rejections) {
+        this.rejections = rejections;
+    }
+
+    public long getActivations() {
+        return activations;
+    }
+
+    public void setActivations(long activations) {
+        this.activations = activations;
+    }
+
+    public long getDeactivations() {
+        return deactivations;
+    }
+
+    public void setDeactivations(long deactivations) {
+        this.deactivations = deactivations;
+    }
+
+    public long getDeletions() {
+        return deletions;
+    }
+
+    public void setDeletions(long deletions) {
+        this.deletions = deletions;
+    }
+}
@@ -0,0 +1,12 @@
+package com.webapp.trackerpro.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ActivityTrendsResponse(boolean success, LocalDate from, LocalDate to,
+                                     List<ActivityRollupDto> data, int count) {
+
+    public static ActivityTrendsResponse of(LocalDate from, LocalDate to, List<ActivityRollupDto> data) {
+        return new ActivityTrendsResponse(true, from, to, data, data.size());
+    }
+}
@@ -0,0 +1,23 @@
+package com.webapp.trackerpro.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Success envelope for single-object and message-only responses. Unset fields are left out,
+ * so {@code ApiResponse.message("...")} serialises as {"success":true,"message":"..."}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponse<T>(boolean success, String message, T data) {
+
+    public static ApiResponse<Void> message(String message) {
+        return new ApiResponse<>(true, message, null);
+    }
+
+    public static <T> ApiResponse<T> of(T data) {
+        return new ApiResponse<>(true, null, data);
+    }
+
+    public static <T> ApiResponse<T> of(String message, T data) {
+        return new ApiResponse<>(true, message, data);
+    }
+}
@@ -0,0 +1,20 @@
+package com.webapp.trackerpro.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Envelope for registration, login and token refresh. Registration carries only the user;
+ * logins add the token pair, and admin logins add the dashboard redirect.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuthResponse(boolean success, String message, UserResponseDto user, String token,
+                           String refreshToken, Long expiresIn, String redirectUrl) {
+
+    public static AuthResponse registered(String message, UserResponseDto user) {
+        return new AuthResponse(true, message, user, null, null, null, null);
+    }
+
+    public AuthResponse withRedirect(String redirectUrl) {
+        return new AuthResponse(success, message, user, token, refreshToken, expiresIn, redirectUrl);
+    }
+}
@@ -0,0 +1,85 @@
+package com.webapp.trackerpro.dto;
+
+import com.webapp.trackerpro.model.UserStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkActionResultDto {
+
+    public enum Outcome {
+        UPDATED,
+        SKIPPED,
+        NOT_FOUND
+    }
+
+    private int requested;
+    private int updated;
+    private int skipped;
+    private int notFound;
+    private List<Item> results = new ArrayList<>();
+
+    // Constructors
+    public BulkActionResultDto() {}
+
+    public void add(Long id, Outcome outcome, UserStatus status, String message) {
+        results.add(new Item(id, outcome, status, message));
+        requested++;
+        switch (outcome) {
+            case UPDATED -> updated++;
+            case SKIPPED -> skipped++;
+            case NOT_FOUND -> notFound++;
+        }
+    }
+
+    // Getters
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public static class Item {
+        private final Long id;
+        private final Outcome outcome;
+        private final UserStatus status;
+        private final String message;
+
+        public Item(Long id, Outcome outcome, UserStatus status, String message) {
+            this.id = id;
+            this.outcome = outcome;
+            this.status = status;
+            this.message = message;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public UserStatus getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
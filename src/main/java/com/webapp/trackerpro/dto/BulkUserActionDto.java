@@ -0,0 +1,82 @@
+package com.webapp.trackerpro.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BulkUserActionDto {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @Size(max = MAX_BATCH_SIZE, message = "At most 1000 user IDs can be processed per request")
+    private List<Long> ids;
+
+    // Filter used when no IDs are given, e.g. all PENDING students created before a date
+    private String role;
+
+    private LocalDateTime createdBefore;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_BATCH_SIZE, message = "Limit must not exceed 1000")
+    private Integer limit;
+
+    // Constructors
+    public BulkUserActionDto() {}
+
+    public BulkUserActionDto(List<Long> ids, String role, LocalDateTime createdBefore, Integer limit) {
+        this.ids = ids;
+        this.role = role;
+        this.createdBefore = createdBefore;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public LocalDateTime getCreatedBefore() {
+        return createdBefore;
+    }
+
+    public void setCreatedBefore(LocalDateTime createdBefore) {
+        this.createdBefore = createdBefore;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkUserActionDto{" +
+                "ids=" + (ids != null ? ids.size() : 0) +
+                ", role='" + role + '\'' +
+                ", createdBefore=" + createdBefore +
+                ", limit=" + limit +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package com.webapp.trackerpro.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Error envelope written by GlobalExceptionHandler for every failed API call. It keeps
+ * {@code success} and {@code message} so clients can handle errors and successes the same way.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(boolean success, String code, String message, LocalDateTime timestamp,
+                            Map<String, String> fieldErrors) {
+
+    public static ErrorResponse of(String code, String message) {
+        return new ErrorResponse(false, code, message, LocalDateTime.now(), null);
+    }
+
+    public static ErrorResponse of(String code, String message, Map<String, String> fieldErrors) {
+        return new ErrorResponse(false, code, message, LocalDateTime.now(), fieldErrors);
+    }
+}
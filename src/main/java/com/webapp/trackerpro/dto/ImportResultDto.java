@@ -0,0 +1,77 @@
+package com.webapp.trackerpro.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResultDto {
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private long durationMs;
+    private List<RowError> errors = new ArrayList<>();
+
+    // Constructors
+    public ImportResultDto() {}
+
+    public void addError(int row, String email, List<String> messages) {
+        errors.add(new RowError(row, email, messages));
+        failed++;
+    }
+
+    public void addImported(int count) {
+        imported += count;
+    }
+
+    // Getters and Setters
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public static class RowError {
+        private final int row;
+        private final String email;
+        private final List<String> messages;
+
+        public RowError(int row, String email, List<String> messages) {
+            this.row = row;
+            this.email = email;
+            this.messages = messages;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public List<String> getMessages() {
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.webapp.trackerpro.dto;
+
+import java.util.List;
+
+/**
+ * Envelope for keyset-paginated lists. {@code next} is always written, as null on the last
+ * page, so clients can test it without checking for the key.
+ */
+public record PagedResponse<T>(boolean success, List<T> data, int count, String next) {
+
+    public static <T> PagedResponse<T> of(CursorPage<T> page) {
+        return new PagedResponse<>(true, page.getItems(), page.getItems().size(), page.getNextCursor());
+    }
+}
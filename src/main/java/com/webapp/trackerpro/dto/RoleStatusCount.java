@@ -0,0 +1,13 @@
+package com.webapp.trackerpro.dto;
+
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.UserStatus;
+
+public interface RoleStatusCount {
+
+    Role getRole();
+
+    UserStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.webapp.trackerpro.dto;
+
+public interface UserKeys {
+
+    String getEmail();
+
+    String getMobile();
+}
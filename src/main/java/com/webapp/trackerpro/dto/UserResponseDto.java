@@ -1,5 +1,6 @@
 package com.webapp.trackerpro.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.webapp.trackerpro.model.Role;
 import com.webapp.trackerpro.model.UserStatus;
 
@@ -16,6 +17,9 @@ public class UserResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @JsonIgnore
+    private int statusVersion;
+
     // Constructors
     public UserResponseDto() {}
 
@@ -106,6 +110,14 @@ public class UserResponseDto {
         this.updatedAt = updatedAt;
     }
 
+    public int getStatusVersion() {
+        return statusVersion;
+    }
+
+    public void setStatusVersion(int statusVersion) {
+        this.statusVersion = statusVersion;
+    }
+
     public String getFullName() {
         return firstName + (lastName != null ? " " + lastName : "");
     }
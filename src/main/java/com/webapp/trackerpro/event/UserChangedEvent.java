@@ -0,0 +1,73 @@
+package com.webapp.trackerpro.event;
+
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.model.UserStatus;
+
+/**
+ * Published by UserService for every user write. Listeners that push to clients should use
+ * {@code @TransactionalEventListener} so nothing is sent for a write that rolls back.
+ */
+public class UserChangedEvent {
+
+    public enum Type {
+        REGISTERED,
+        STATUS_CHANGED,
+        UPDATED,
+        DELETED,
+        IMPORTED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final UserResponseDto user;
+    private final UserStatus previousStatus;
+    private final int count;
+
+    private UserChangedEvent(Type type, Long userId, UserResponseDto user, UserStatus previousStatus, int count) {
+        this.type = type;
+        this.userId = userId;
+        this.user = user;
+        this.previousStatus = previousStatus;
+        this.count = count;
+    }
+
+    public static UserChangedEvent registered(UserResponseDto user) {
+        return new UserChangedEvent(Type.REGISTERED, user.getId(), user, null, 1);
+    }
+
+    public static UserChangedEvent statusChanged(UserResponseDto user, UserStatus previousStatus) {
+        return new UserChangedEvent(Type.STATUS_CHANGED, user.getId(), user, previousStatus, 1);
+    }
+
+    public static UserChangedEvent updated(UserResponseDto user) {
+        return new UserChangedEvent(Type.UPDATED, user.getId(), user, null, 1);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(Type.DELETED, userId, null, null, 1);
+    }
+
+    public static UserChangedEvent imported(int count) {
+        return new UserChangedEvent(Type.IMPORTED, null, null, null, count);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserResponseDto getUser() {
+        return user;
+    }
+
+    public UserStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
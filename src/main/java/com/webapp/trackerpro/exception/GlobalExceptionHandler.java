@@ -1,19 +1,26 @@
 package com.webapp.trackerpro.exception;
 
+import com.webapp.trackerpro.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Builds the error envelope for every controller, including failures of CompletableFuture
+ * results, which Spring unwraps before they get here. Controllers only throw.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -22,41 +29,58 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
         logger.error("Business exception occurred: {}", ex.getMessage());
-        
-        ErrorResponse errorResponse = new ErrorResponse(
-            "BUSINESS_ERROR",
-            ex.getMessage(),
-            LocalDateTime.now()
-        );
-        
-        return ResponseEntity.badRequest().body(errorResponse);
+
+        return ResponseEntity.badRequest().body(ErrorResponse.of("BUSINESS_ERROR", ex.getMessage()));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
-        logger.error("Validation exception occurred: {}", ex.getMessage());
-        
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
+    // Invalid enum/format names in request parameters, e.g. Role.fromString
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        logger.error("Invalid argument: {}", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(ErrorResponse.of("BAD_REQUEST", ex.getMessage()));
+    }
 
-        ErrorResponse errorResponse = new ErrorResponse(
-            "VALIDATION_ERROR",
-            "Validation failed",
-            LocalDateTime.now()
-        );
-        errorResponse.setFieldErrors(errors);
-        
-        return ResponseEntity.badRequest().body(errorResponse);
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException ex) {
+        logger.warn("Service busy: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(ErrorResponse.of("SERVICE_BUSY", ex.getMessage()));
     }
 
+    // An entity write (@Version on User) lost to a concurrent change; nothing was written, so
+    // the client can reload and try again
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ErrorResponse.of("CONFLICT", "The user was changed by someone else. Reload and try again."));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(ErrorResponse.of("TOO_MANY_REQUESTS", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex) {
+        logger.warn("Request failed with {}: {}", ex.getStatusCode(), ex.getReason());
+
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        String code = status != null ? status.name() : "ERROR";
+        return ResponseEntity.status(ex.getStatusCode()).body(ErrorResponse.of(code, ex.getReason()));
+    }
+
+    // Also covers MethodArgumentNotValidException, which extends BindException
     @ExceptionHandler(BindException.class)
     public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
-        logger.error("Bind exception occurred: {}", ex.getMessage());
-        
+        logger.error("Validation exception occurred: {}", ex.getMessage());
+
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
@@ -64,72 +88,22 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        ErrorResponse errorResponse = new ErrorResponse(
-            "VALIDATION_ERROR",
-            "Invalid input data",
-            LocalDateTime.now()
-        );
-        errorResponse.setFieldErrors(errors);
-        
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.badRequest().body(ErrorResponse.of("VALIDATION_ERROR", "Validation failed", errors));
+    }
+
+    // Missing static files; without this they would fall through to the 500 handler below
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFound(NoResourceFoundException ex) {
+        logger.warn("No static resource found: {}", ex.getResourcePath());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ErrorResponse.of("NOT_FOUND", "Resource not found"));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         logger.error("Unexpected exception occurred: {}", ex.getMessage(), ex);
-        
-        ErrorResponse errorResponse = new ErrorResponse(
-            "INTERNAL_ERROR",
-            "An unexpected error occurred. Please try again later.",
-            LocalDateTime.now()
-        );
-        
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-    }
 
-    public static class ErrorResponse {
-        private String code;
-        private String message;
-        private LocalDateTime timestamp;
-        private Map<String, String> fieldErrors;
-
-        public ErrorResponse(String code, String message, LocalDateTime timestamp) {
-            this.code = code;
-            this.message = message;
-            this.timestamp = timestamp;
-        }
-
-        // Getters and Setters
-        public String getCode() {
-            return code;
-        }
-
-        public void setCode(String code) {
-            this.code = code;
-        }
-
-        public String getMessage() {
-            return message;
-        }
-
-        public void setMessage(String message) {
-            this.message = message;
-        }
-
-        public LocalDateTime getTimestamp() {
-            return timestamp;
-        }
-
-        public void setTimestamp(LocalDateTime timestamp) {
-            this.timestamp = timestamp;
-        }
-
-        public Map<String, String> getFieldErrors() {
-            return fieldErrors;
-        }
-
-        public void setFieldErrors(Map<String, String> fieldErrors) {
-            this.fieldErrors = fieldErrors;
-        }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(ErrorResponse.of("INTERNAL_ERROR", "An unexpected error occurred. Please try again later."));
     }
-}
\ No newline at end of file
+}
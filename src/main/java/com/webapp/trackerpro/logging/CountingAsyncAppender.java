@@ -0,0 +1,37 @@
+package com.webapp.trackerpro.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback's AsyncAppender, counting the events it drops: INFO and below once the queue is
+ * past the discarding threshold, and anything at all when the queue is full and
+ * {@code neverBlock} is set. The counts are read from the queue state just before the
+ * event is offered, so under contention they are close but not exact.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DISCARDED = new LongAdder();
+    private static final LongAdder QUEUE_FULL = new LongAdder();
+
+    public static long discardedCount() {
+        return DISCARDED.sum();
+    }
+
+    public static long queueFullCount() {
+        return QUEUE_FULL.sum();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            DISCARDED.increment();
+        } else if (remaining == 0 && isNeverBlock()) {
+            QUEUE_FULL.increment();
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,31 @@
+package com.webapp.trackerpro.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the log events the prod logging profile throws away: sampled out by
+ * SamplingTurboFilter, or dropped by CountingAsyncAppender when the queue backs up.
+ * Both stay at zero under the default configuration.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", this, metrics -> SamplingTurboFilter.suppressedCount())
+                .description("Log events not written")
+                .tag("reason", "sampled")
+                .register(registry);
+        FunctionCounter.builder("logging.events.dropped", this, metrics -> CountingAsyncAppender.discardedCount())
+                .description("Log events not written")
+                .tag("reason", "queue-threshold")
+                .register(registry);
+        FunctionCounter.builder("logging.events.dropped", this, metrics -> CountingAsyncAppender.queueFullCount())
+                .description("Log events not written")
+                .tag("reason", "queue-full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.webapp.trackerpro.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets each logger write a message template at most {@code maxPerSecond} times per second
+ * and drops the rest, so repetitive per-request lines ("Fetching users...", "User
+ * authenticated successfully: {}") cost nothing once a busy second has enough samples.
+ * Only applies to loggers under {@code loggerPrefix} and to INFO and below; WARN and ERROR
+ * always pass. Runs before the event is created, so a suppressed call does not format.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SUPPRESSED = new LongAdder();
+
+    // Templates are source constants, so this only grows with new log statements; the
+    // clear is a guard against callers that build the format string dynamically
+    private static final int MAX_TRACKED_TEMPLATES = 10_000;
+
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    private String loggerPrefix = "com.webapp.trackerpro";
+    private int maxPerSecond = 10;
+
+    public static long suppressedCount() {
+        return SUPPRESSED.sum();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (windows.size() > MAX_TRACKED_TEMPLATES) {
+            windows.clear();
+        }
+        Window window = windows.computeIfAbsent(new Key(logger.getName(), format), key -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        SUPPRESSED.increment();
+        return FilterReply.DENY;
+    }
+
+    private record Key(String logger, String format) {
+    }
+
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private boolean tryAcquire(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
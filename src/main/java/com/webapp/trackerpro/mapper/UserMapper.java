@@ -12,7 +12,7 @@ public class UserMapper {
             return null;
         }
 
-        return new UserResponseDto(
+        UserResponseDto dto = new UserResponseDto(
             user.getId(),
             user.getFirstName(),
             user.getLastName(),
@@ -23,5 +23,7 @@ public class UserMapper {
             user.getCreatedAt(),
             user.getUpdatedAt()
         );
+        dto.setStatusVersion(user.getStatusVersion());
+        return dto;
     }
 }
\ No newline at end of file
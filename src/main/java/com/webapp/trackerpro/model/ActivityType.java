@@ -0,0 +1,20 @@
+package com.webapp.trackerpro.model;
+
+public enum ActivityType {
+    REGISTERED("Registered"),
+    APPROVED("Approved"),
+    REJECTED("Rejected"),
+    ACTIVATED("Activated"),
+    DEACTIVATED("Deactivated"),
+    DELETED("Deleted");
+
+    private final String displayName;
+
+    ActivityType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
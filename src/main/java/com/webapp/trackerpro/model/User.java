@@ -11,17 +11,28 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+// The schema comes from the Flyway migrations in db/migration; keep these in step with them
 @Entity
-@Table(name = "users", 
+@Table(name = "users",
        indexes = {
-           @Index(name = "idx_user_email", columnList = "email"),
-           @Index(name = "idx_user_role", columnList = "role"),
-           @Index(name = "idx_user_status", columnList = "status")
+           @Index(name = "idx_user_created_at_id", columnList = "created_at desc, id desc"),
+           @Index(name = "idx_user_role_created_at_id", columnList = "role, created_at desc, id desc"),
+           @Index(name = "idx_user_status_created_at_id", columnList = "status, created_at desc, id desc"),
+           @Index(name = "idx_user_role_status_first_name", columnList = "role, status, first_name")
+       },
+       uniqueConstraints = {
+           // The name ddl-auto gave it before migrations; kept so old and new databases match
+           @UniqueConstraint(name = "UK6dotkott2kjsp8vw4d0m25fb7", columnNames = "email"),
+           @UniqueConstraint(name = "uk_user_mobile", columnNames = "mobile")
        })
 public class User {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts (table-emulated on MySQL)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -35,7 +46,7 @@ public class User {
 
     @Email(message = "Please provide a valid email address")
     @NotBlank(message = "Email is required")
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
     @NotBlank(message = "Password is required")
@@ -55,6 +66,15 @@ public class User {
     @Column(name = "status", nullable = false)
     private UserStatus status = UserStatus.PENDING;
 
+    // Bumped on every status, role or password change; access tokens carry it so stale ones can be refused
+    @Column(name = "status_version", nullable = false)
+    private int statusVersion = 0;
+
+    // Optimistic lock for entity writes; the conditional status UPDATEs in UserRepository bump it too
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -142,6 +162,18 @@ public class User {
         this.status = status;
     }
 
+    public int getStatusVersion() {
+        return statusVersion;
+    }
+
+    public void setStatusVersion(int statusVersion) {
+        this.statusVersion = statusVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,144 @@
+package com.webapp.trackerpro.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Per-day, per-role counters of user lifecycle events. Rows are only ever
+ * incremented by UserActivityRollupRepository.increment, never rebuilt from users.
+ */
+@Entity
+@Table(name = "user_activity_rollup")
+public class UserActivityRollup {
+
+    @EmbeddedId
+    private RollupKey id;
+
+    @Column(name = "registrations", nullable = false)
+    private long registrations;
+
+    @Column(name = "approvals", nullable = false)
+    private long approvals;
+
+    @Column(name = "rejections", nullable = false)
+    private long rejections;
+
+    @Column(name = "activations", nullable = false)
+    private long activations;
+
+    @Column(name = "deactivations", nullable = false)
+    private long deactivations;
+
+    @Column(name = "deletions", nullable = false)
+    private long deletions;
+
+    // Constructors
+    public UserActivityRollup() {}
+
+    // Getters and Setters
+    public RollupKey getId() {
+        return id;
+    }
+
+    public void setId(RollupKey id) {
+        this.id = id;
+    }
+
+    public LocalDate getActivityDate() {
+        return id != null ? id.getActivityDate() : null;
+    }
+
+    public Role getRole() {
+        return id != null ? id.getRole() : null;
+    }
+
+    public long getRegistrations() {
+        return registrations;
+    }
+
+    public void setRegistrations(long registrations) {
+        this.registrations = registrations;
+    }
+
+    public long getApprovals() {
+        return approvals;
+    }
+
+    public void setApprovals(long approvals) {
+        this.approvals = approvals;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(long rejections) {
+        this.rejections = rejections;
+    }
+
+    public long getActivations() {
+        return activations;
+    }
+
+    public void setActivations(long activations) {
+        this.activations = activations;
+    }
+
+    public long getDeactivations() {
+        return deactivations;
+    }
+
+    public void setDeactivations(long deactivations) {
+        this.deactivations = deactivations;
+    }
+
+    public long getDeletions() {
+        return deletions;
+    }
+
+    public void setDeletions(long deletions) {
+        this.deletions = deletions;
+    }
+
+    @Embeddable
+    public static class RollupKey implements Serializable {
+
+        @Column(name = "activity_date", nullable = false)
+        private LocalDate activityDate;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "role", nullable = false, length = 20)
+        private Role role;
+
+        public RollupKey() {}
+
+        public RollupKey(LocalDate activityDate, Role role) {
+            this.activityDate = activityDate;
+            this.role = role;
+        }
+
+        public LocalDate getActivityDate() {
+            return activityDate;
+        }
+
+        public Role getRole() {
+            return role;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+            RollupKey key = (RollupKey) obj;
+            return Objects.equals(activityDate, key.activityDate) && role == key.role;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(activityDate, role);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.webapp.trackerpro.repository;
+
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.UserActivityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserActivityRollupRepository extends JpaRepository<UserActivityRollup, UserActivityRollup.RollupKey> {
+
+    // Single-statement upsert so concurrent writers never lose an increment (also accepted by H2 in MySQL mode)
+    @Modifying
+    @Query(value = "INSERT INTO user_activity_rollup " +
+                   "(activity_date, role, registrations, approvals, rejections, activations, deactivations, deletions) " +
+                   "VALUES (:activityDate, :role, :registrations, :approvals, :rejections, :activations, :deactivations, :deletions) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "registrations = registrations + VALUES(registrations), " +
+                   "approvals = approvals + VALUES(approvals), " +
+                   "rejections = rejections + VALUES(rejections), " +
+                   "activations = activations + VALUES(activations), " +
+                   "deactivations = deactivations + VALUES(deactivations), " +
+                   "deletions = deletions + VALUES(deletions)",
+           nativeQuery = true)
+    int increment(@Param("activityDate") LocalDate activityDate,
+                  @Param("role") String role,
+                  @Param("registrations") long registrations,
+                  @Param("approvals") long approvals,
+                  @Param("rejections") long rejections,
+                  @Param("activations") long activations,
+                  @Param("deactivations") long deactivations,
+                  @Param("deletions") long deletions);
+
+    @Query("SELECT r FROM UserActivityRollup r WHERE r.id.activityDate BETWEEN :from AND :to " +
+           "ORDER BY r.id.activityDate, r.id.role")
+    List<UserActivityRollup> findByDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT r FROM UserActivityRollup r WHERE r.id.role = :role AND r.id.activityDate BETWEEN :from AND :to " +
+           "ORDER BY r.id.activityDate")
+    List<UserActivityRollup> findByRoleAndDateRange(@Param("role") Role role,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+}
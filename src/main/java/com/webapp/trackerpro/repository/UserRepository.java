@@ -1,38 +1,107 @@
 package com.webapp.trackerpro.repository;
 
+import com.webapp.trackerpro.dto.RoleStatusCount;
+import com.webapp.trackerpro.dto.UserKeys;
+import com.webapp.trackerpro.dto.UserResponseDto;
 import com.webapp.trackerpro.model.Role;
 import com.webapp.trackerpro.model.User;
 import com.webapp.trackerpro.model.UserStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Read paths select straight into the response DTO: no password column, nothing managed
+    String SELECT_RESPONSE_DTO = "SELECT new com.webapp.trackerpro.dto.UserResponseDto(" +
+            "u.id, u.firstName, u.lastName, u.email, u.mobile, u.role, u.status, u.createdAt, u.updatedAt) " +
+            "FROM User u ";
+
+    // Rows after the cursor (createdAt, id) in DESC order. The leading createdAt <= :createdAt is
+    // redundant but sargable, so the scan starts at the cursor inside the (..., created_at, id)
+    // indexes; the OR alone would be filtered row by row.
+    String KEYSET_AFTER = "AND u.createdAt <= :createdAt AND (u.createdAt < :createdAt OR u.id < :id) ";
+
     Optional<User> findByEmail(String email);
 
+    // Primary-key read that tells UserLookupCache whether its snapshot of the row is still current
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     boolean existsByEmail(String email);
 
     boolean existsByMobile(String mobile);
 
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.mobile FROM User u WHERE u.mobile IN :mobiles")
+    List<String> findExistingMobiles(@Param("mobiles") Collection<String> mobiles);
+
     List<User> findByRole(Role role);
 
     List<User> findByStatus(UserStatus status);
 
     List<User> findByRoleAndStatus(Role role, UserStatus status);
 
-    @Query("SELECT u FROM User u WHERE u.status = :status ORDER BY u.createdAt DESC")
-    List<User> findPendingRegistrations(@Param("status") UserStatus status);
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role = :role")
+    List<UserResponseDto> findResponsesByRole(@Param("role") Role role);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.status = :status ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findPendingRegistrations(@Param("status") UserStatus status);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role != 'ADMIN' ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findAllNonAdminUsers();
+
+    // Keyset pages ordered by (createdAt DESC, id DESC); callers pass PageRequest.of(0, limit + 1)
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role != 'ADMIN' ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findNonAdminUsersPage(Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role != 'ADMIN' " +
+           KEYSET_AFTER +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findNonAdminUsersPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role = :role ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findByRolePage(@Param("role") Role role, Pageable pageable);
 
-    @Query("SELECT u FROM User u WHERE u.role != 'ADMIN' ORDER BY u.createdAt DESC")
-    List<User> findAllNonAdminUsers();
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role = :role " +
+           KEYSET_AFTER +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findByRolePageAfter(@Param("role") Role role,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.status = :status ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findByStatusPage(@Param("status") UserStatus status, Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.status = :status " +
+           KEYSET_AFTER +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDto> findByStatusPageAfter(@Param("status") UserStatus status,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
 
     @Query("SELECT u FROM User u WHERE u.role = :role AND u.status = 'ACTIVE' ORDER BY u.firstName")
     Page<User> findActiveUsersByRole(@Param("role") Role role, Pageable pageable);
@@ -42,4 +111,65 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.status = 'PENDING'")
     Long countPendingRegistrations();
-}
\ No newline at end of file
+
+    @Query("SELECT u.role AS role, u.status AS status, COUNT(u) AS total FROM User u GROUP BY u.role, u.status")
+    List<RoleStatusCount> countByRoleAndStatus();
+
+    // Forward-only, read-only scan for exports; must be consumed inside a transaction and closed.
+    // On MySQL the fetch size only streams when the URL sets useCursorFetch=true.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT u FROM User u WHERE u.role != 'ADMIN' ORDER BY u.id")
+    Stream<User> streamAllNonAdminUsers();
+
+    // Seeds UserSearchIndex; same streaming rules as streamAllNonAdminUsers
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE_DTO + "WHERE u.role != 'ADMIN'")
+    Stream<UserResponseDto> streamAllNonAdminResponseDtos();
+
+    // Key-only scan that seeds UserKeyFilter; same streaming rules as streamAllNonAdminUsers
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.email AS email, u.mobile AS mobile FROM User u")
+    Stream<UserKeys> streamAllKeys();
+
+    // Bulk transitions lock their rows up front so per-ID outcomes match what actually gets written
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids")
+    List<User> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Fallback for a single-user transition whose conditional UPDATE lost to a concurrent write
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM User u WHERE u.status = :status AND u.role != 'ADMIN' " +
+           "AND (:role IS NULL OR u.role = :role) AND u.createdAt < :createdBefore " +
+           "ORDER BY u.createdAt, u.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") UserStatus status,
+                                            @Param("role") Role role,
+                                            @Param("createdBefore") LocalDateTime createdBefore,
+                                            Pageable pageable);
+
+    // Single-user status transition as one conditional UPDATE: it applies only while the row is
+    // still in the expected status at the version the caller read, so concurrent admins cannot
+    // overwrite each other. Returns the rows changed (0 or 1). Bumps the version like entity
+    // writes, and updatedAt since @UpdateTimestamp does not apply to bulk statements.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.statusVersion = u.statusVersion + 1, " +
+           "u.version = u.version + 1, u.updatedAt = :updatedAt " +
+           "WHERE u.id = :id AND u.status = :expectedStatus AND u.version = :version AND u.role != 'ADMIN'")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expectedStatus") UserStatus expectedStatus,
+                         @Param("version") long version,
+                         @Param("status") UserStatus status,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,116 @@
+package com.webapp.trackerpro.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.webapp.trackerpro.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for login attempts, one per client IP and one per normalised email, checked
+ * before any lookup or BCrypt work. Each bucket is a single AtomicLong holding the time at
+ * which it will be full again (GCRA), so an attempt is one CAS with no lock. Buckets live in
+ * size-bounded caches and expire once idle for a full refill period, after which a fresh
+ * bucket is indistinguishable from the old one.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.login-rate-limit.per-ip.burst:20}")
+    private int ipBurst;
+
+    @Value("${app.login-rate-limit.per-ip.period:1m}")
+    private Duration ipPeriod;
+
+    @Value("${app.login-rate-limit.per-account.burst:5}")
+    private int accountBurst;
+
+    @Value("${app.login-rate-limit.per-account.period:5m}")
+    private Duration accountPeriod;
+
+    @Value("${app.login-rate-limit.maximum-keys:100000}")
+    private long maximumKeys;
+
+    private Limit byIp;
+    private Limit byAccount;
+
+    @PostConstruct
+    public void init() {
+        byIp = new Limit("ip", ipBurst, ipPeriod);
+        byAccount = new Limit("account", accountBurst, accountPeriod);
+    }
+
+    /**
+     * Takes one attempt from the client's IP bucket, then from the account's. An attempt
+     * refused by IP does not drain the account, so one noisy address cannot lock a user out.
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long now = System.nanoTime();
+        byIp.acquire(clientIp == null ? "unknown" : clientIp, now);
+        if (email != null) {
+            byAccount.acquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private final class Limit {
+
+        private final String name;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter rejected;
+
+        private Limit(String name, int burst, Duration period) {
+            this.name = name;
+            this.emissionIntervalNanos = period.toNanos() / burst;
+            this.burstToleranceNanos = emissionIntervalNanos * burst;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(period)
+                    .build();
+            this.rejected = Counter.builder("login.rate.limited")
+                    .description("Login attempts refused before authentication")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+            Gauge.builder("login.rate.buckets", buckets, Cache::estimatedSize)
+                    .description("Login rate limit buckets currently tracked")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+        }
+
+        private void acquire(String key, long now) {
+            AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long excess = next - now - burstToleranceNanos;
+                if (excess > 0) {
+                    rejected.increment();
+                    logger.warn("Login attempt rate limited by {}: {}", name, key);
+                    throw new TooManyRequestsException("Too many login attempts. Please try again later.",
+                            Math.max(1, TimeUnit.NANOSECONDS.toSeconds(excess + TimeUnit.SECONDS.toNanos(1) - 1)));
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.webapp.trackerpro.security;
+
+import com.webapp.trackerpro.model.Role;
+
+public class TokenClaims {
+    private final String type;
+    private final Long userId;
+    private final Role role;
+    private final int statusVersion;
+    private final long expiresAt;
+
+    public TokenClaims(String type, Long userId, Role role, int statusVersion, long expiresAt) {
+        this.type = type;
+        this.userId = userId;
+        this.role = role;
+        this.statusVersion = statusVersion;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public int getStatusVersion() {
+        return statusVersion;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(userId);
+    }
+}
@@ -0,0 +1,61 @@
+package com.webapp.trackerpro.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimum accepted status version per user, recorded whenever UserService changes a user's
+ * status, role or password. Tokens carrying an older version are refused without a DB lookup.
+ * An entry is only needed until every token issued before it has expired, so entries older
+ * than the refresh TTL are purged and memory stays proportional to recent changes.
+ *
+ * <p>The registry is per instance. Other instances learn of a change on the next refresh, which
+ * checks the stored status version, so an access token stays usable there until it expires
+ * ({@code app.security.token.access-ttl}).
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final int PURGE_INTERVAL = 1024;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePurge = new AtomicInteger();
+
+    public void revokeBelow(Long userId, int minimumVersion) {
+        long now = System.currentTimeMillis();
+        revocations.merge(userId, new Revocation(minimumVersion, now),
+                (existing, latest) -> latest.minimumVersion >= existing.minimumVersion ? latest : existing);
+
+        if (writesSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            writesSincePurge.set(0);
+            long cutoff = now - tokenService.getRefreshTtl().toMillis();
+            revocations.values().removeIf(revocation -> revocation.recordedAt < cutoff);
+        }
+    }
+
+    public void revokeAll(Long userId) {
+        revokeBelow(userId, Integer.MAX_VALUE);
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        Revocation revocation = revocations.get(claims.getUserId());
+        return revocation != null && claims.getStatusVersion() < revocation.minimumVersion;
+    }
+
+    private static final class Revocation {
+        private final int minimumVersion;
+        private final long recordedAt;
+
+        private Revocation(int minimumVersion, long recordedAt) {
+            this.minimumVersion = minimumVersion;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
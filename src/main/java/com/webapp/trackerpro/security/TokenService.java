@@ -0,0 +1,162 @@
+package com.webapp.trackerpro.security;
+
+import com.webapp.trackerpro.model.Role;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Issues and verifies compact HMAC-SHA256 tokens of the form base64url(payload).base64url(mac),
+ * where payload is "type|userId|role|statusVersion|expiresAtEpochSeconds". Verification is a
+ * single MAC over a few dozen bytes and never touches the database.
+ */
+@Component
+public class TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+
+    public static final String ACCESS = "a";
+    public static final String REFRESH = "r";
+    public static final String STREAM = "s";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${app.security.token.secret:}")
+    private String secret;
+
+    @Value("${app.security.token.allow-random-secret:false}")
+    private boolean allowRandomSecret;
+
+    @Value("${app.security.token.access-ttl:5m}")
+    private Duration accessTtl;
+
+    @Value("${app.security.token.refresh-ttl:7d}")
+    private Duration refreshTtl;
+
+    @Value("${app.security.token.stream-ttl:60s}")
+    private Duration streamTtl;
+
+    private SecretKeySpec key;
+
+    // Mac instances are not thread-safe; one per thread avoids both locking and per-call lookup
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    public void init() {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // A random key differs per instance and per start, so tokens would only work on the
+            // instance that issued them
+            if (!allowRandomSecret) {
+                throw new IllegalStateException("app.security.token.secret (TOKEN_SECRET) is not set. "
+                        + "Give every instance the same key of at least 32 bytes, or start with the dev profile "
+                        + "to sign with a random key");
+            }
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            logger.warn("app.security.token.secret is not set; using a random key, tokens will not survive a restart");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < 32) {
+                logger.warn("app.security.token.secret is shorter than 32 bytes");
+            }
+        }
+        key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    public String issueAccessToken(Long userId, Role role, int statusVersion) {
+        return issue(ACCESS, userId, role, statusVersion, accessTtl);
+    }
+
+    public String issueRefreshToken(Long userId, Role role, int statusVersion) {
+        return issue(REFRESH, userId, role, statusVersion, refreshTtl);
+    }
+
+    // For the dashboard's EventSource URL, which lands in access logs: it only opens
+    // /api/admin/stream and expires within a minute
+    public String issueStreamToken(Long userId, Role role, int statusVersion) {
+        return issue(STREAM, userId, role, statusVersion, streamTtl);
+    }
+
+    public Duration getAccessTtl() {
+        return accessTtl;
+    }
+
+    public Duration getRefreshTtl() {
+        return refreshTtl;
+    }
+
+    public Duration getStreamTtl() {
+        return streamTtl;
+    }
+
+    /**
+     * Returns the claims of a well-formed, correctly signed, unexpired token of the given type,
+     * or null for anything else.
+     */
+    public TokenClaims verify(String token, String expectedType) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+
+        try {
+            byte[] payloadPart = token.substring(0, dot).getBytes(StandardCharsets.US_ASCII);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadPart), signature)) {
+                return null;
+            }
+
+            String[] fields = new String(DECODER.decode(payloadPart), StandardCharsets.UTF_8).split("\\|");
+            if (fields.length != 5 || !fields[0].equals(expectedType)) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(fields[4]);
+            if (expiresAt < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return new TokenClaims(fields[0], Long.parseLong(fields[1]), Role.valueOf(fields[2]),
+                    Integer.parseInt(fields[3]), expiresAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String issue(String type, Long userId, Role role, int statusVersion, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() / 1000 + ttl.toSeconds();
+        String payload = type + "|" + userId + "|" + role.name() + "|" + statusVersion + "|" + expiresAt;
+        byte[] payloadPart = ENCODER.encode(payload.getBytes(StandardCharsets.UTF_8));
+        return new String(payloadPart, StandardCharsets.US_ASCII) + "." + ENCODER.encodeToString(sign(payloadPart));
+    }
+
+    private byte[] sign(byte[] data) {
+        Mac mac = macs.get();
+        return mac.doFinal(data);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
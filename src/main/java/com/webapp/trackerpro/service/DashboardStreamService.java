@@ -0,0 +1,201 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.config.ReplicaRoutingDataSource;
+import com.webapp.trackerpro.dto.CursorPage;
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes admin dashboard updates over Server-Sent Events. A new subscriber gets one snapshot
+ * (stats and the first pending page); after that only deltas are sent, built from the
+ * UserChangedEvents UserService publishes after commit. Stats are recomputed at most once per
+ * second, and only after a change, then fanned out, so database load does not grow with the
+ * number of open dashboards. All sends happen on one dispatcher thread, which keeps event
+ * order per client and keeps slow clients off request threads.
+ *
+ * <p>Events only come from this instance. While any dashboard is open, the dispatcher also
+ * reads user_table_version once per second; when it moved because of a write through another
+ * instance, the stats are recomputed and clients get a {@code resync} event telling them to
+ * reload their lists.
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    // Clients reconnect (re-authenticating) when the stream times out
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final long STATS_INTERVAL_MS = 1000;
+    private static final long HEARTBEAT_INTERVAL_MS = TimeUnit.SECONDS.toMillis(25);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserTableVersion userTableVersion;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean statsDirty = new AtomicBoolean(true);
+    private volatile Map<String, Object> latestStats;
+    private ScheduledExecutorService dispatcher;
+
+    // user_table_version as last seen by the dispatcher; -1 while no dashboard is open
+    private long seenVersion = -1;
+
+    @PostConstruct
+    public void init() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-sse");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::publishChanges,
+                STATS_INTERVAL_MS, STATS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        dispatcher.scheduleWithFixedDelay(this::sendHeartbeat,
+                HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("dashboard.sse.subscribers", emitters, List::size)
+                .description("Open admin dashboard event streams")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        dispatcher.execute(() -> {
+            try {
+                // Start watching before the snapshot is read, so no later change is missed
+                if (seenVersion < 0) {
+                    seenVersion = ReplicaRoutingDataSource.onPrimary(userTableVersion::currentVersion);
+                }
+                CursorPage<UserResponseDto> pending = ReplicaRoutingDataSource.onPrimary(
+                        () -> userService.getPendingRegistrationsPage(null, UserService.DEFAULT_PAGE_SIZE));
+                Map<String, Object> snapshot = new HashMap<>();
+                snapshot.put("stats", currentStats());
+                snapshot.put("pending", pending.getItems());
+                snapshot.put("pendingNext", pending.getNextCursor());
+                send(emitter, "snapshot", snapshot);
+            } catch (RuntimeException e) {
+                logger.warn("Could not build dashboard snapshot: {}", e.getMessage());
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        statsDirty.set(true);
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        String name = switch (event.getType()) {
+            case REGISTERED -> "user-registered";
+            case STATUS_CHANGED -> "user-status-changed";
+            case UPDATED -> "user-updated";
+            case DELETED -> "user-deleted";
+            case IMPORTED -> "users-imported";
+        };
+        payload.put("id", event.getUserId());
+        payload.put("user", event.getUser());
+        payload.put("previousStatus", event.getPreviousStatus());
+        payload.put("count", event.getCount());
+
+        dispatcher.execute(() -> broadcast(name, payload));
+    }
+
+    // Read from the primary: a replica may not have the change that marked the stats dirty yet,
+    // and the stale result would be kept until the next change
+    private Map<String, Object> currentStats() {
+        if (statsDirty.getAndSet(false) || latestStats == null) {
+            latestStats = ReplicaRoutingDataSource.onPrimary(userService::getDashboardStats);
+        }
+        return latestStats;
+    }
+
+    private void publishChanges() {
+        if (emitters.isEmpty()) {
+            seenVersion = -1;
+            return;
+        }
+        try {
+            long version = ReplicaRoutingDataSource.onPrimary(userTableVersion::currentVersion);
+            if (seenVersion >= 0 && version != seenVersion) {
+                statsDirty.set(true);
+                if (!userTableVersion.onlyLocalChanges(seenVersion, version)) {
+                    // Written through another instance, so no deltas were sent for it
+                    broadcast("resync", Map.of("version", version));
+                }
+            }
+            seenVersion = version;
+            if (statsDirty.get()) {
+                broadcast("stats", currentStats());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not refresh dashboard stats: {}", e.getMessage());
+            statsDirty.set(true);
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private void broadcast(String name, Object payload) {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, name, payload);
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object payload) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container completes the emitter
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt encode/matches on a fixed-size pool with a bounded queue so hashing can
+ * never occupy request threads. When the queue is full the returned future fails
+ * immediately with ServiceBusyException instead of queueing without limit.
+ *
+ * <p>Bulk callers such as imports use {@link #encodeBulk}, which holds at most
+ * {@code app.hashing.bulk-threads} of the workers (half by default) and waits instead of
+ * failing, so the rest of the pool stays free for logins and registrations.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.hashing.threads:0}")
+    private int configuredThreads;
+
+    @Value("${app.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.hashing.bulk-threads:0}")
+    private int configuredBulkThreads;
+
+    @Value("${app.hashing.bulk-retry-delay:20ms}")
+    private Duration bulkRetryDelay;
+
+    private ThreadPoolExecutor executor;
+    private Timer encodeWaitTimer;
+    private Timer matchesWaitTimer;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejectedCounter;
+    private Semaphore bulkPermits;
+
+    @PostConstruct
+    public void init() {
+        int threads = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        int bulkThreads = configuredBulkThreads > 0 ? Math.min(configuredBulkThreads, threads) : Math.max(1, threads / 2);
+        bulkPermits = new Semaphore(bulkThreads);
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing workers currently busy")
+                .register(meterRegistry);
+        encodeWaitTimer = waitTimer("encode");
+        matchesWaitTimer = waitTimer("matches");
+        encodeTimer = durationTimer("encode");
+        matchesTimer = durationTimer("matches");
+        rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Hashing requests refused because the queue was full")
+                .register(meterRegistry);
+
+        Gauge.builder("password.hash.bulk.active", bulkPermits, permits -> bulkThreads - permits.availablePermits())
+                .description("Bulk hashing tasks queued or running")
+                .register(meterRegistry);
+
+        logger.info("Password hashing pool started with {} threads ({} for bulk work) and queue capacity {}",
+                threads, bulkThreads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeWaitTimer, encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchesWaitTimer, matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encodes for bulk work. Blocks the caller until a bulk slot is free, and while the queue
+     * is full of interactive requests, but never hashes on the calling thread.
+     */
+    public CompletableFuture<String> encodeBulk(String rawPassword) throws InterruptedException {
+        bulkPermits.acquire();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.whenComplete((hash, error) -> bulkPermits.release());
+        long enqueued = System.nanoTime();
+        while (true) {
+            try {
+                execute(encodeWaitTimer, encodeTimer, enqueued, () -> passwordEncoder.encode(rawPassword), future);
+                return future;
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    future.completeExceptionally(e);
+                    return future;
+                }
+            }
+            try {
+                Thread.sleep(bulkRetryDelay.toMillis());
+            } catch (InterruptedException e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer waitTimer, Timer workTimer, Supplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            execute(waitTimer, workTimer, System.nanoTime(), work, future);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            future.completeExceptionally(new ServiceBusyException("Server is busy. Please try again shortly.", 1));
+        }
+        return future;
+    }
+
+    private <T> void execute(Timer waitTimer, Timer workTimer, long enqueued, Supplier<T> work,
+                             CompletableFuture<T> future) {
+        executor.execute(() -> {
+            waitTimer.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+            try {
+                future.complete(workTimer.record(work));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+    }
+
+    private Timer durationTimer(String operation) {
+        return Timer.builder("password.hash.duration")
+                .description("BCrypt time on a hashing worker, excluding queueing")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer waitTimer(String operation) {
+        return Timer.builder("password.hash.wait")
+                .description("Time hashing tasks spend queued before a worker picks them up")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
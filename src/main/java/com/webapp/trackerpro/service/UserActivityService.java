@@ -0,0 +1,84 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.dto.ActivityRollupDto;
+import com.webapp.trackerpro.exception.BusinessException;
+import com.webapp.trackerpro.model.ActivityType;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.UserActivityRollup;
+import com.webapp.trackerpro.repository.UserActivityRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class UserActivityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserActivityService.class);
+
+    public static final int MAX_TREND_DAYS = 366;
+
+    @Autowired
+    private UserActivityRollupRepository rollupRepository;
+
+    // Joins the caller's transaction so the counter moves together with the user row
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ActivityType type, Role role) {
+        record(type, role, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ActivityType type, Role role, long amount) {
+        if (role == null || amount == 0) {
+            return;
+        }
+        logger.debug("Recording {} x{} for role {}", type, amount, role);
+
+        rollupRepository.increment(
+            LocalDate.now(),
+            role.name(),
+            type == ActivityType.REGISTERED ? amount : 0,
+            type == ActivityType.APPROVED ? amount : 0,
+            type == ActivityType.REJECTED ? amount : 0,
+            type == ActivityType.ACTIVATED ? amount : 0,
+            type == ActivityType.DEACTIVATED ? amount : 0,
+            type == ActivityType.DELETED ? amount : 0
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivityRollupDto> getTrends(LocalDate from, LocalDate to, Role role) {
+        logger.info("Fetching activity trends from {} to {} for role: {}", from, to, role);
+
+        if (from.isAfter(to)) {
+            throw new BusinessException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TREND_DAYS) {
+            throw new BusinessException("Trend range must not exceed " + MAX_TREND_DAYS + " days");
+        }
+
+        List<UserActivityRollup> rows = role != null
+                ? rollupRepository.findByRoleAndDateRange(role, from, to)
+                : rollupRepository.findByDateRange(from, to);
+
+        return rows.stream()
+                .map(row -> new ActivityRollupDto(
+                    row.getActivityDate(),
+                    row.getRole(),
+                    row.getRegistrations(),
+                    row.getApprovals(),
+                    row.getRejections(),
+                    row.getActivations(),
+                    row.getDeactivations(),
+                    row.getDeletions()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,173 @@
+package com.webapp.trackerpro.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.mapper.UserMapper;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class UserExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportService.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final String CSV_HEADER = "id,firstName,lastName,email,mobile,role,status,createdAt,updatedAt";
+
+    // Spreadsheet apps run a cell starting with one of these as a formula; registration accepts
+    // any text in names, so such cells get a leading ' and open as plain text
+    private static final String CSV_FORMULA_PREFIXES = "=+-@\t\r";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromString(String format) {
+            for (Format f : Format.values()) {
+                if (f.name().equalsIgnoreCase(format) || f.extension.equalsIgnoreCase(format)) {
+                    return f;
+                }
+            }
+            throw new IllegalArgumentException("Invalid export format: " + format);
+        }
+    }
+
+    /**
+     * Streams every non-admin user to the output without materialising the result set.
+     * Each entity is detached as soon as it is written so the persistence context stays empty.
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(Format format, OutputStream outputStream) throws IOException {
+        logger.info("Starting user export as {}", format);
+
+        long count;
+        try (Stream<User> users = userRepository.streamAllNonAdminUsers()) {
+            count = format == Format.CSV
+                    ? writeCsv(users.iterator(), outputStream)
+                    : writeNdjson(users.iterator(), outputStream);
+        }
+
+        logger.info("User export finished, {} rows written", count);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<User> users, OutputStream outputStream) throws IOException {
+        long count = 0;
+        SequenceWriter writer = objectMapper.writerFor(UserResponseDto.class)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+
+        while (users.hasNext()) {
+            User user = users.next();
+            writer.write(userMapper.toResponseDto(user));
+            entityManager.detach(user);
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        if (count > 0) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<User> users, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (users.hasNext()) {
+            User user = users.next();
+            writeCsvRow(writer, userMapper.toResponseDto(user));
+            entityManager.detach(user);
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, UserResponseDto user) throws IOException {
+        writer.write(String.valueOf(user.getId()));
+        writer.write(',');
+        writer.write(csvField(user.getFirstName()));
+        writer.write(',');
+        writer.write(csvField(user.getLastName()));
+        writer.write(',');
+        writer.write(csvField(user.getEmail()));
+        writer.write(',');
+        writer.write(csvField(user.getMobile()));
+        writer.write(',');
+        writer.write(user.getRole() != null ? user.getRole().name() : "");
+        writer.write(',');
+        writer.write(user.getStatus() != null ? user.getStatus().name() : "");
+        writer.write(',');
+        writer.write(user.getCreatedAt() != null ? user.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(user.getUpdatedAt() != null ? user.getUpdatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && CSV_FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,431 @@
+package com.webapp.trackerpro.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.trackerpro.dto.ImportResultDto;
+import com.webapp.trackerpro.dto.UserRegistrationDto;
+import com.webapp.trackerpro.event.UserChangedEvent;
+import com.webapp.trackerpro.exception.BusinessException;
+import com.webapp.trackerpro.model.ActivityType;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk onboarding of users from CSV or JSON. Rows are read as a stream and processed in
+ * chunks: validation, one IN-query per chunk for duplicate emails/mobiles, BCrypt on the
+ * bulk share of {@link PasswordHashingService}'s pool, then a batched insert in its own
+ * transaction. Failed rows are reported
+ * individually and never stop the rest of the file.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    public static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private UserKeyFilter userKeyFilter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // One import at a time; its hashing is also capped to the bulk share of the hashing pool
+    private final Semaphore importPermit = new Semaphore(1);
+
+    public enum Format {
+        CSV,
+        JSON;
+
+        public static Format fromString(String format) {
+            for (Format f : Format.values()) {
+                if (f.name().equalsIgnoreCase(format)) {
+                    return f;
+                }
+            }
+            throw new IllegalArgumentException("Invalid import format: " + format);
+        }
+    }
+
+    public ImportResultDto importUsers(InputStream inputStream, Format format, boolean activate) throws IOException {
+        if (!importPermit.tryAcquire()) {
+            throw new BusinessException("Another import is already running");
+        }
+
+        long started = System.nanoTime();
+        ImportResultDto result = new ImportResultDto();
+        logger.info("Starting {} user import (activate={})", format, activate);
+
+        try {
+            Iterator<ImportRow> rows = format == Format.JSON
+                    ? new JsonRowIterator(objectMapper, objectMapper.getFactory().createParser(inputStream))
+                    : new CsvRowIterator(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+
+            Set<String> seenEmails = new HashSet<>();
+            Set<String> seenMobiles = new HashSet<>();
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            int total = 0;
+
+            try {
+                while (rows.hasNext()) {
+                    ImportRow row = rows.next();
+                    total++;
+                    if (validateRow(row, seenEmails, seenMobiles, result)) {
+                        chunk.add(row);
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        processChunk(chunk, activate, result);
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+            } catch (UncheckedIOException e) {
+                throw new BusinessException("Malformed " + format + " input after row " + total + ": " + e.getCause().getMessage());
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, activate, result);
+            }
+
+            result.setTotalRows(total);
+        } finally {
+            importPermit.release();
+        }
+
+        result.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("User import finished: {} rows, {} imported, {} failed in {} ms",
+                result.getTotalRows(), result.getImported(), result.getFailed(), result.getDurationMs());
+        return result;
+    }
+
+    // Same rules as POST /api/auth/register, plus duplicates within the file itself
+    private boolean validateRow(ImportRow row, Set<String> seenEmails, Set<String> seenMobiles, ImportResultDto result) {
+        UserRegistrationDto dto = row.dto;
+        if (dto.getConfirmPassword() == null) {
+            dto.setConfirmPassword(dto.getPassword());
+        }
+        if (dto.getMobileNo() != null && dto.getMobileNo().isEmpty()) {
+            dto.setMobileNo(null);
+        }
+
+        List<String> messages = new ArrayList<>();
+        for (ConstraintViolation<UserRegistrationDto> violation : validator.validate(dto)) {
+            messages.add(violation.getMessage());
+        }
+        if (dto.getPassword() != null && !dto.getPassword().equals(dto.getConfirmPassword())) {
+            messages.add("Passwords do not match");
+        }
+        if (dto.getRoleCategory() != null && !dto.getRoleCategory().isBlank()) {
+            try {
+                if (Role.fromString(dto.getRoleCategory()) == Role.ADMIN) {
+                    messages.add("Admin users cannot be imported");
+                }
+            } catch (IllegalArgumentException e) {
+                messages.add(e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            if (!seenEmails.add(emailKey(dto.getEmail()))) {
+                messages.add("Duplicate email in file");
+            } else if (dto.getMobileNo() != null && !seenMobiles.add(dto.getMobileNo())) {
+                messages.add("Duplicate mobile number in file");
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            result.addError(row.number, dto.getEmail(), messages);
+            return false;
+        }
+        return true;
+    }
+
+    private void processChunk(List<ImportRow> chunk, boolean activate, ImportResultDto result) {
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                chunk.stream().map(row -> row.dto.getEmail()).collect(Collectors.toList()))
+                .stream().map(UserImportService::emailKey).collect(Collectors.toSet());
+        List<String> mobiles = chunk.stream()
+                .map(row -> row.dto.getMobileNo())
+                .filter(mobile -> mobile != null)
+                .collect(Collectors.toList());
+        Set<String> existingMobiles = mobiles.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingMobiles(mobiles));
+
+        List<ImportRow> accepted = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingEmails.contains(emailKey(row.dto.getEmail()))) {
+                result.addError(row.number, row.dto.getEmail(), List.of("Email already exists"));
+            } else if (row.dto.getMobileNo() != null && existingMobiles.contains(row.dto.getMobileNo())) {
+                result.addError(row.number, row.dto.getEmail(), List.of("Mobile number already exists"));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        try {
+            for (ImportRow row : accepted) {
+                hashes.add(passwordHashingService.encodeBulk(row.dto.getPassword()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Import interrupted");
+        }
+
+        List<User> users = new ArrayList<>(accepted.size());
+        Map<Role, Long> perRole = new EnumMap<>(Role.class);
+        for (int i = 0; i < accepted.size(); i++) {
+            UserRegistrationDto dto = accepted.get(i).dto;
+            User user = new User();
+            user.setFirstName(dto.getFirstName());
+            user.setLastName(dto.getLastName());
+            user.setEmail(dto.getEmail());
+            user.setPassword(hashes.get(i).join());
+            user.setMobile(dto.getMobileNo());
+            user.setRole(Role.fromString(dto.getRoleCategory()));
+            user.setStatus(activate ? UserStatus.ACTIVE : UserStatus.PENDING);
+            users.add(user);
+            perRole.merge(user.getRole(), 1L, Long::sum);
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                entityManager.flush();
+                entityManager.clear();
+                eventPublisher.publishEvent(UserChangedEvent.imported(users.size()));
+                perRole.forEach((role, count) -> {
+                    userActivityService.record(ActivityType.REGISTERED, role, count);
+                    if (activate) {
+                        userActivityService.record(ActivityType.APPROVED, role, count);
+                    }
+                });
+            });
+            users.forEach(user -> userKeyFilter.add(user.getEmail(), user.getMobile()));
+            result.addImported(users.size());
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration; the whole chunk was rolled back
+            logger.warn("Import chunk rejected by a constraint violation: {}", e.getMostSpecificCause().getMessage());
+            for (ImportRow row : accepted) {
+                result.addError(row.number, row.dto.getEmail(), List.of("Conflicting record inserted concurrently, please retry"));
+            }
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class ImportRow {
+        private final int number;
+        private final UserRegistrationDto dto;
+
+        ImportRow(int number, UserRegistrationDto dto) {
+            this.number = number;
+            this.dto = dto;
+        }
+    }
+
+    /**
+     * Header-driven CSV reader: firstName, lastName, email, password, mobileNo (or mobile),
+     * roleCategory (or role) and optional confirmPassword. Quoted fields may not span lines.
+     */
+    private static class CsvRowIterator implements Iterator<ImportRow> {
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private String nextLine;
+        private int lineNumber;
+
+        CsvRowIterator(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            String header = reader.readLine();
+            if (header == null) {
+                throw new BusinessException("Import file is empty");
+            }
+            lineNumber = 1;
+            List<String> names = parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("email")) {
+                throw new BusinessException("CSV header must contain an 'email' column");
+            }
+            advance();
+        }
+
+        private void advance() {
+            try {
+                do {
+                    nextLine = reader.readLine();
+                    lineNumber++;
+                } while (nextLine != null && nextLine.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            int number = lineNumber;
+            List<String> fields = parseLine(nextLine);
+            advance();
+
+            UserRegistrationDto dto = new UserRegistrationDto(
+                field(fields, "firstname"),
+                field(fields, "lastname"),
+                field(fields, "email"),
+                field(fields, "password"),
+                field(fields, "confirmpassword"),
+                field(fields, "mobileno") != null ? field(fields, "mobileno") : field(fields, "mobile"),
+                field(fields, "rolecategory") != null ? field(fields, "rolecategory") : field(fields, "role")
+            );
+            return new ImportRow(number, dto);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static List<String> parseLine(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+
+    // Reads a top-level JSON array one object at a time
+    private static class JsonRowIterator implements Iterator<ImportRow> {
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private int number;
+        private boolean hasNext;
+
+        JsonRowIterator(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = parser;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException("JSON import must be an array of users");
+            }
+            advance();
+        }
+
+        private void advance() {
+            try {
+                hasNext = parser.nextToken() == JsonToken.START_OBJECT;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (!hasNext) {
+                throw new NoSuchElementException();
+            }
+            number++;
+            try {
+                UserRegistrationDto dto = objectMapper.readValue(parser, UserRegistrationDto.class);
+                advance();
+                return new ImportRow(number, dto);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
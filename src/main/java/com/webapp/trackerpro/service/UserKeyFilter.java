@@ -0,0 +1,275 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.dto.UserKeys;
+import com.webapp.trackerpro.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over every registered email and mobile, used to skip the existsByEmail and
+ * existsByMobile probes when a key is definitely new. A "maybe" always falls back to the
+ * repository. The filter is per instance, so it can miss a key another instance has just
+ * written and skip the probe; the insert or update is then refused by the unique constraints
+ * on email and mobile (db/migration V1 and V2) and reported as a duplicate by the caller. Without
+ * those constraints a stale filter would admit duplicates, so every key checked here needs one.
+ * <p>
+ * Built from a key-only scan once the application is ready; until then every check goes to
+ * the database. Deletes and email/mobile changes cannot clear bits, so they are counted, and
+ * the filter is rebuilt in the background (sized for at least twice the current row count)
+ * once its estimated false-positive rate or its stale share passes the configured bounds.
+ */
+@Component
+public class UserKeyFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserKeyFilter.class);
+
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String MOBILE_PREFIX = "m:";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Value("${app.key-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${app.key-filter.fpp:0.01}")
+    private double targetFpp;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong removals = new AtomicLong();
+
+    private Counter absentCounter;
+    private Counter presentCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    public void init() {
+        absentCounter = checkCounter("absent");
+        presentCounter = checkCounter("present");
+        falsePositiveCounter = checkCounter("false_positive");
+        Gauge.builder("user.key.filter.fpp", this, filter -> filter.current == null ? 1.0 : filter.current.expectedFpp())
+                .description("Estimated false-positive probability of the registration key filter")
+                .register(meterRegistry);
+        Gauge.builder("user.key.filter.keys", this, filter -> filter.current == null ? 0 : filter.current.insertions())
+                .description("Keys inserted into the registration key filter since the last rebuild")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    public boolean emailExists(String email, Predicate<String> probe) {
+        return exists(EMAIL_PREFIX + normalizeEmail(email), email, probe);
+    }
+
+    public boolean mobileExists(String mobile, Predicate<String> probe) {
+        return exists(MOBILE_PREFIX + mobile.trim(), mobile, probe);
+    }
+
+    public void add(String email, String mobile) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            put(filter, email, mobile);
+        }
+        // A rebuild in progress may have scanned past this row already
+        BloomFilter next = building;
+        if (next != null) {
+            put(next, email, mobile);
+        }
+        checkSaturation(filter);
+    }
+
+    public void recordRemoval() {
+        removals.incrementAndGet();
+        checkSaturation(current);
+    }
+
+    private boolean exists(String key, String value, Predicate<String> probe) {
+        BloomFilter filter = current;
+        if (filter != null && !filter.mightContain(key)) {
+            absentCounter.increment();
+            return false;
+        }
+
+        boolean exists = probe.test(value);
+        if (filter != null) {
+            (exists ? presentCounter : falsePositiveCounter).increment();
+        }
+        return exists;
+    }
+
+    private void checkSaturation(BloomFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.expectedFpp() > targetFpp * 2 || removals.get() > filter.capacity() / 4) {
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            applicationTaskExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            long rows = userRepository.count();
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, rows * 2), targetFpp);
+            building = next;
+            removals.set(0);
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<UserKeys> keys = userRepository.streamAllKeys()) {
+                    keys.forEach(row -> put(next, row.getEmail(), row.getMobile()));
+                }
+            });
+
+            current = next;
+            logger.info("Registration key filter built: {} keys, capacity {}, estimated fpp {} in {} ms",
+                    next.insertions(), next.capacity(), String.format("%.5f", next.expectedFpp()),
+                    System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.warn("Registration key filter rebuild failed, keeping the previous filter: {}", e.getMessage());
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private Counter checkCounter(String result) {
+        return Counter.builder("user.key.filter.checks")
+                .description("Uniqueness checks answered by the registration key filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void put(BloomFilter filter, String email, String mobile) {
+        if (email != null) {
+            filter.put(EMAIL_PREFIX + normalizeEmail(email));
+        }
+        if (mobile != null) {
+            filter.put(MOBILE_PREFIX + mobile.trim());
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Lock-free bit set with k probes derived from one 64-bit hash (Kirsch-Mitzenmacher)
+    private static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+        private final AtomicLong bitsSet = new AtomicLong();
+        private final AtomicLong insertions = new AtomicLong();
+
+        private BloomFilter(long capacity, double fpp) {
+            long bits = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.max(1, (bits + 63) / 64);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.capacity = capacity;
+        }
+
+        private void put(String key) {
+            long hash = hash64(key);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = bitIndex(hash1 + i * hash2);
+                long mask = 1L << index;
+                long previous = words.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+                if ((previous & mask) == 0) {
+                    bitsSet.incrementAndGet();
+                }
+            }
+            insertions.incrementAndGet();
+        }
+
+        private boolean mightContain(String key) {
+            long hash = hash64(key);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = bitIndex(hash1 + i * hash2);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long bitIndex(int combined) {
+            return (combined < 0 ? ~combined : combined) % bitCount;
+        }
+
+        private double expectedFpp() {
+            return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+        }
+
+        private long insertions() {
+            return insertions.get();
+        }
+
+        private long capacity() {
+            return capacity;
+        }
+
+        // FNV-1a followed by the MurmurHash3 finalizer to spread short, similar keys
+        private static long hash64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.webapp.trackerpro.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.webapp.trackerpro.config.ReplicaRoutingDataSource;
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Read-through cache of immutable user snapshots, indexed by ID and by email, for the hot
+ * lookups in login and token refresh. Entries are never handed out as entities, so nothing
+ * read from here can be written back. UserService evicts on every write, once immediately
+ * and again after the transaction completes, so a load racing an uncommitted write cannot
+ * leave the old row behind. Misses are not cached.
+ *
+ * <p>Evictions only reach this instance. Writes through other instances show up here once the
+ * entry expires ({@code app.user-cache.ttl}), so login and token refresh use
+ * {@link #findCurrentByEmail} and {@link #findCurrentById}: they compare the entry with the
+ * row's version on the primary and reload it when the row has changed.
+ */
+@Component
+public class UserLookupCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.user-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${app.user-cache.ttl:5m}")
+    private Duration ttl;
+
+    private Cache<Long, Entry> byId;
+    private Cache<String, Entry> byEmail;
+
+    @PostConstruct
+    public void init() {
+        byId = CaffeineCacheMetrics.monitor(meterRegistry, newCache(), "users.byId");
+        byEmail = CaffeineCacheMetrics.monitor(meterRegistry, newCache(), "users.byEmail");
+    }
+
+    public Optional<Entry> findById(Long userId) {
+        return Optional.ofNullable(byId.get(userId,
+                id -> userRepository.findById(id).map(Entry::new).orElse(null)));
+    }
+
+    public Optional<Entry> findByEmail(String email) {
+        return Optional.ofNullable(byEmail.get(normalize(email),
+                key -> userRepository.findByEmail(email).map(Entry::new).orElse(null)));
+    }
+
+    public Optional<Entry> findCurrentById(Long userId) {
+        Optional<Entry> cached = findById(userId);
+        if (cached.isEmpty() || isCurrent(cached.get())) {
+            return cached;
+        }
+        evictNow(userId, cached.get().getEmail());
+        return findById(userId);
+    }
+
+    public Optional<Entry> findCurrentByEmail(String email) {
+        Optional<Entry> cached = findByEmail(email);
+        if (cached.isEmpty() || isCurrent(cached.get())) {
+            return cached;
+        }
+        evictNow(cached.get().getId(), cached.get().getEmail(), email);
+        return findByEmail(email);
+    }
+
+    public void evict(User user) {
+        evict(user.getId(), user.getEmail());
+    }
+
+    public void evict(Long userId, String... emails) {
+        evictNow(userId, emails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(userId, emails);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId, String... emails) {
+        if (userId != null) {
+            byId.invalidate(userId);
+        }
+        for (String email : emails) {
+            if (email != null) {
+                byEmail.invalidate(normalize(email));
+            }
+        }
+    }
+
+    // Every write bumps the version, so an unchanged version means an unchanged row
+    private boolean isCurrent(Entry entry) {
+        Optional<Long> stored = ReplicaRoutingDataSource.onPrimary(() -> userRepository.findVersionById(entry.getId()));
+        return stored.isPresent() && stored.get() == entry.getVersion();
+    }
+
+    private <K> Cache<K, Entry> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Entry {
+        private final Long id;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final String mobile;
+        private final String passwordHash;
+        private final Role role;
+        private final UserStatus status;
+        private final int statusVersion;
+        private final long version;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        Entry(User user) {
+            this.id = user.getId();
+            this.firstName = user.getFirstName();
+            this.lastName = user.getLastName();
+            this.email = user.getEmail();
+            this.mobile = user.getMobile();
+            this.passwordHash = user.getPassword();
+            this.role = user.getRole();
+            this.status = user.getStatus();
+            this.statusVersion = user.getStatusVersion();
+            this.version = user.getVersion();
+            this.createdAt = user.getCreatedAt();
+            this.updatedAt = user.getUpdatedAt();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPasswordHash() {
+            return passwordHash;
+        }
+
+        public Role getRole() {
+            return role;
+        }
+
+        public UserStatus getStatus() {
+            return status;
+        }
+
+        public int getStatusVersion() {
+            return statusVersion;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public UserResponseDto toResponseDto() {
+            UserResponseDto dto = new UserResponseDto(id, firstName, lastName, email, mobile,
+                    role, status, createdAt, updatedAt);
+            dto.setStatusVersion(statusVersion);
+            return dto;
+        }
+
+        // The user as UserRepository.transitionStatus left it, starting from this snapshot
+        public UserResponseDto toTransitionedDto(UserStatus newStatus, LocalDateTime transitionedAt) {
+            UserResponseDto dto = new UserResponseDto(id, firstName, lastName, email, mobile,
+                    role, newStatus, createdAt, transitionedAt);
+            dto.setStatusVersion(statusVersion + 1);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.dto.CursorPage;
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.event.UserChangedEvent;
+import com.webapp.trackerpro.exception.BusinessException;
+import com.webapp.trackerpro.exception.ServiceBusyException;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over the first name, last name, email and mobile of every non-admin
+ * user, so the admin search never runs a LIKE scan. Terms live in a sorted map and a query
+ * term matches every indexed term it is a prefix of; mobiles also index their suffixes of
+ * four or more digits, so a number can be found by its last digits. Every query term must
+ * match. Results are ranked by the best field each term hit (name over email and mobile over
+ * email domain, exact over prefix), then newest first.
+ * <p>
+ * Built from a DTO scan once the application is ready and kept current from the
+ * UserChangedEvents UserService publishes after commit; imports, which only report a count,
+ * trigger a background rebuild. Until the first build completes, searches get 503.
+ * <p>
+ * The events only come from this instance. A write through another instance reaches this index
+ * at its next rebuild, that is after a restart or an import here.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    public static final int MIN_QUERY_LENGTH = 2;
+    // Deeper pages would need a narrower query anyway, and the cap bounds the ranking work
+    public static final int MAX_RESULTS = 1000;
+
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[\\s._+@-]+");
+    private static final int MIN_MOBILE_SUFFIX = 4;
+
+    private static final int WEIGHT_NAME = 4;
+    private static final int WEIGHT_CONTACT = 3;
+    private static final int WEIGHT_MOBILE_SUFFIX = 2;
+    private static final int WEIGHT_EMAIL_DOMAIN = 1;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score)
+            .thenComparing(hit -> hit.user().getCreatedAt(),
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(hit -> hit.user().getId())
+            .reversed();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    private volatile Index current;
+    private volatile Index building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Set by every request; a rebuild that finds it set after its scan runs again
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("user.search.index.users", this,
+                        index -> index.current == null ? 0 : index.current.entries.size())
+                .description("Users in the admin search index")
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.terms", this,
+                        index -> index.current == null ? 0 : index.current.terms.size())
+                .description("Distinct terms in the admin search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.IMPORTED) {
+            scheduleRebuild();
+            return;
+        }
+        apply(current, event);
+        // A rebuild in progress may have scanned past this row already, or may still read
+        // an older version of it; the event wins either way
+        apply(building, event);
+    }
+
+    /**
+     * Returns one page of the ranked matches for {@code query}. The cursor is an opaque
+     * offset into the ranking, which reflects the index at the time of each call.
+     */
+    public CursorPage<UserResponseDto> search(String query, String cursor, int pageSize) {
+        Index index = current;
+        if (index == null) {
+            throw new ServiceBusyException("Search index is still loading. Please try again shortly.", 1);
+        }
+
+        List<String> queryTerms = tokenize(query);
+        String seed = queryTerms.stream().max(Comparator.comparingInt(String::length)).orElse("");
+        if (seed.length() < MIN_QUERY_LENGTH) {
+            throw new BusinessException("Search query must contain a term of at least "
+                    + MIN_QUERY_LENGTH + " characters");
+        }
+
+        int offset = decodeOffset(cursor);
+        int wanted = Math.min(offset + pageSize + 1, MAX_RESULTS);
+        if (offset >= wanted) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        // Candidates come from the range of the longest term, usually the narrowest; every
+        // query term is then checked against the candidate's own terms
+        PriorityQueue<Hit> top = new PriorityQueue<>(wanted + 1, RANKING.reversed());
+        Set<Long> seen = new HashSet<>();
+        for (Set<Long> ids : index.terms.subMap(seed, true, seed + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+                Entry entry = index.entries.get(id);
+                int score = entry != null ? entry.score(queryTerms) : 0;
+                if (score > 0) {
+                    top.add(new Hit(entry.user(), score));
+                    if (top.size() > wanted) {
+                        top.poll();
+                    }
+                }
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        if (offset >= ranked.size()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        int end = Math.min(offset + pageSize, ranked.size());
+        List<UserResponseDto> users = ranked.subList(offset, end).stream().map(Hit::user).toList();
+        String nextCursor = end < ranked.size() ? encodeOffset(end) : null;
+        return new CursorPage<>(users, nextCursor);
+    }
+
+    private void apply(Index index, UserChangedEvent event) {
+        if (index == null) {
+            return;
+        }
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            index.remove(event.getUserId(), true);
+        } else if (event.getUser() != null) {
+            index.put(event.getUser(), true);
+        }
+    }
+
+    // A request during a rebuild is not dropped: the scan in progress may have passed the rows
+    // an import added, so the running rebuild goes round once more
+    private void scheduleRebuild() {
+        rebuildRequested.set(true);
+        if (rebuilding.compareAndSet(false, true)) {
+            applicationTaskExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        do {
+            rebuildRequested.set(false);
+            buildOnce();
+            rebuilding.set(false);
+        } while (rebuildRequested.get() && rebuilding.compareAndSet(false, true));
+    }
+
+    private void buildOnce() {
+        long started = System.currentTimeMillis();
+        try {
+            Index next = new Index();
+            building = next;
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<UserResponseDto> users = userRepository.streamAllNonAdminResponseDtos()) {
+                    users.forEach(user -> next.put(user, false));
+                }
+            });
+
+            next.finishBuild();
+            current = next;
+            logger.info("User search index built: {} users, {} terms in {} ms", next.entries.size(),
+                    next.terms.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.warn("User search index rebuild failed, keeping the previous index: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<Term> termsOf(UserResponseDto user) {
+        List<Term> terms = new ArrayList<>();
+        addWords(terms, user.getFirstName(), WEIGHT_NAME);
+        addWords(terms, user.getLastName(), WEIGHT_NAME);
+
+        String email = normalize(user.getEmail());
+        if (email != null) {
+            int at = email.lastIndexOf('@');
+            terms.add(new Term(email, WEIGHT_CONTACT));
+            addWords(terms, at >= 0 ? email.substring(0, at) : email, WEIGHT_CONTACT);
+            if (at >= 0) {
+                addWords(terms, email.substring(at + 1), WEIGHT_EMAIL_DOMAIN);
+            }
+        }
+
+        String mobile = normalize(user.getMobile());
+        if (mobile != null) {
+            terms.add(new Term(mobile, WEIGHT_CONTACT));
+            for (int start = 1; start <= mobile.length() - MIN_MOBILE_SUFFIX; start++) {
+                terms.add(new Term(mobile.substring(start), WEIGHT_MOBILE_SUFFIX));
+            }
+        }
+        return terms;
+    }
+
+    // Indexes the whole value and, when it has several words, each word
+    private static void addWords(List<Term> terms, String value, int weight) {
+        String normalized = normalize(value);
+        if (normalized == null) {
+            return;
+        }
+        terms.add(new Term(normalized, weight));
+        String[] words = WORD_SEPARATORS.split(normalized);
+        if (words.length > 1) {
+            for (String word : words) {
+                if (!word.isEmpty()) {
+                    terms.add(new Term(word, weight));
+                }
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String encodeOffset(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("search|" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith("search|")) {
+                throw new IllegalArgumentException(raw);
+            }
+            int offset = Integer.parseInt(raw.substring("search|".length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+
+    private record Term(String text, int weight) {
+    }
+
+    private record Hit(UserResponseDto user, int score) {
+    }
+
+    private record Entry(UserResponseDto user, List<Term> terms) {
+
+        // Sum of each query term's best hit, doubled when the term matches a whole field or
+        // word; 0 when any query term matches nothing
+        private int score(List<String> queryTerms) {
+            int total = 0;
+            for (String queryTerm : queryTerms) {
+                int best = 0;
+                for (Term term : terms) {
+                    if (term.text().startsWith(queryTerm)) {
+                        int score = term.text().length() == queryTerm.length() ? term.weight() * 2 : term.weight();
+                        best = Math.max(best, score);
+                    }
+                }
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+    }
+
+    private static final class Index {
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, Set<Long>> terms = new ConcurrentSkipListMap<>();
+        // Users changed by events while the scan runs; the scan must not overwrite them
+        private Set<Long> touched = new HashSet<>();
+
+        // Writers are serialized; readers only see complete postings through the concurrent maps
+        private synchronized void put(UserResponseDto user, boolean fromEvent) {
+            if (!track(user.getId(), fromEvent)) {
+                return;
+            }
+            removeTerms(entries.remove(user.getId()));
+            if (user.getRole() == Role.ADMIN) {
+                return;
+            }
+            Entry entry = new Entry(user, termsOf(user));
+            entries.put(user.getId(), entry);
+            for (Term term : entry.terms()) {
+                terms.computeIfAbsent(term.text(), text -> ConcurrentHashMap.newKeySet()).add(user.getId());
+            }
+        }
+
+        private synchronized void remove(Long id, boolean fromEvent) {
+            if (track(id, fromEvent)) {
+                removeTerms(entries.remove(id));
+            }
+        }
+
+        private synchronized void finishBuild() {
+            touched = null;
+        }
+
+        private boolean track(Long id, boolean fromEvent) {
+            Set<Long> changed = touched;
+            if (changed == null) {
+                return true;
+            }
+            if (fromEvent) {
+                changed.add(id);
+                return true;
+            }
+            return !changed.contains(id);
+        }
+
+        private void removeTerms(Entry entry) {
+            if (entry == null) {
+                return;
+            }
+            Long id = entry.user().getId();
+            for (Term term : entry.terms()) {
+                Collection<Long> ids = terms.get(term.text());
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        terms.remove(term.text(), ids);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,41 +1,101 @@
 package com.webapp.trackerpro.service;
 
+import com.webapp.trackerpro.config.ConnectionPoolMonitor;
+import com.webapp.trackerpro.dto.BulkActionResultDto;
+import com.webapp.trackerpro.dto.BulkUserActionDto;
+import com.webapp.trackerpro.dto.CursorPage;
 import com.webapp.trackerpro.dto.LoginDto;
+import com.webapp.trackerpro.dto.RoleStatusCount;
+import com.webapp.trackerpro.dto.UserCursor;
 import com.webapp.trackerpro.dto.UserRegistrationDto;
 import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.event.UserChangedEvent;
 import com.webapp.trackerpro.exception.BusinessException;
 import com.webapp.trackerpro.mapper.UserMapper;
+import com.webapp.trackerpro.model.ActivityType;
 import com.webapp.trackerpro.model.Role;
 import com.webapp.trackerpro.model.User;
 import com.webapp.trackerpro.model.UserStatus;
 import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.security.TokenRevocationRegistry;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+// Every public operation is timed as user.service{class,method}; async methods until their future completes
 @Service
 @Transactional
+@Timed(value = "user.service", histogram = true)
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private UserMapper userMapper;
 
-    public UserResponseDto registerUser(UserRegistrationDto registrationDto) {
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private UserLookupCache userLookupCache;
+
+    @Autowired
+    private UserKeyFilter userKeyFilter;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Runs outside a transaction: the cheap checks happen on the caller thread, BCrypt on the
+    // hashing pool, and the insert in a short transaction once the hash is ready
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserResponseDto> registerUser(UserRegistrationDto registrationDto) {
         logger.info("Registering new user with email: {}", registrationDto.getEmail());
 
         // Validate passwords match
@@ -43,157 +103,275 @@ public class UserService {
             throw new BusinessException("Passwords do not match");
         }
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(registrationDto.getEmail())) {
+        // Check if email already exists (the key filter skips the query for definitely-new keys)
+        if (userKeyFilter.emailExists(registrationDto.getEmail(), userRepository::existsByEmail)) {
             throw new BusinessException("Email already exists");
         }
 
         // Check if mobile already exists
-        if (registrationDto.getMobileNo() != null && userRepository.existsByMobile(registrationDto.getMobileNo())) {
+        if (registrationDto.getMobileNo() != null &&
+            userKeyFilter.mobileExists(registrationDto.getMobileNo(), userRepository::existsByMobile)) {
             throw new BusinessException("Mobile number already exists");
         }
 
-        // Create new user
+        Role role = Role.fromString(registrationDto.getRoleCategory());
+        if (role == Role.ADMIN) {
+            throw new BusinessException("Admin accounts cannot be registered");
+        }
+
+        return passwordHashingService.encode(registrationDto.getPassword())
+                .thenApplyAsync(encodedPassword -> ConnectionPoolMonitor.withOperation("registerUser",
+                        () -> new TransactionTemplate(transactionManager).execute(
+                                status -> createPendingUser(registrationDto, role, encodedPassword))),
+                        applicationTaskExecutor);
+    }
+
+    private UserResponseDto createPendingUser(UserRegistrationDto registrationDto, Role role, String encodedPassword) {
         User user = new User();
         user.setFirstName(registrationDto.getFirstName());
         user.setLastName(registrationDto.getLastName());
         user.setEmail(registrationDto.getEmail());
-        user.setPassword(passwordEncoder.encode(registrationDto.getPassword()));
+        user.setPassword(encodedPassword);
         user.setMobile(registrationDto.getMobileNo());
-        user.setRole(Role.fromString(registrationDto.getRoleCategory()));
+        user.setRole(role);
         user.setStatus(UserStatus.PENDING);
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration won the race between the exists checks and the insert
+            throw new BusinessException("Email or mobile number already exists");
+        }
+        userLookupCache.evict(savedUser);
+        userKeyFilter.add(savedUser.getEmail(), savedUser.getMobile());
+        userActivityService.record(ActivityType.REGISTERED, savedUser.getRole());
         logger.info("User registered successfully with ID: {}", savedUser.getId());
 
-        return userMapper.toResponseDto(savedUser);
+        UserResponseDto response = userMapper.toResponseDto(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.registered(response));
+        return response;
     }
 
-    @Transactional(readOnly = true)
-    public UserResponseDto authenticateUser(LoginDto loginDto) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserResponseDto> authenticateUser(LoginDto loginDto) {
         logger.info("Authenticating user with email: {}", loginDto.getEmail());
 
-        Optional<User> userOptional = userRepository.findByEmail(loginDto.getEmail());
+        // Checked against the stored row version: another instance may have changed the status
+        // or password without evicting this instance's cache
+        Optional<UserLookupCache.Entry> userOptional = userLookupCache.findCurrentByEmail(loginDto.getEmail());
         if (userOptional.isEmpty()) {
             throw new BusinessException("Invalid email or password");
         }
 
-        User user = userOptional.get();
-
-        // Check if password matches
-        if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
-            throw new BusinessException("Invalid email or password");
-        }
-
-        // Check if user is active (except for admin)
-        if (user.getRole() != Role.ADMIN && user.getStatus() != UserStatus.ACTIVE) {
-            String message = switch (user.getStatus()) {
-                case PENDING -> "Your account is pending approval. Please contact administrator.";
-                case INACTIVE -> "Your account has been deactivated. Please contact administrator.";
-                case REJECTED -> "Your account registration was rejected. Please contact administrator.";
-                default -> "Account access denied.";
-            };
-            throw new BusinessException(message);
-        }
-
-        logger.info("User authenticated successfully: {}", user.getEmail());
-        return userMapper.toResponseDto(user);
+        UserLookupCache.Entry user = userOptional.get();
+
+        // Check if password matches (on the hashing pool), then apply the status rules
+        return passwordHashingService.matches(loginDto.getPassword(), user.getPasswordHash())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new BusinessException("Invalid email or password");
+                    }
+
+                    // Only active accounts get a session, admins included
+                    if (user.getStatus() != UserStatus.ACTIVE) {
+                        String message = switch (user.getStatus()) {
+                            case PENDING -> "Your account is pending approval. Please contact administrator.";
+                            case INACTIVE -> "Your account has been deactivated. Please contact administrator.";
+                            case REJECTED -> "Your account registration was rejected. Please contact administrator.";
+                            default -> "Account access denied.";
+                        };
+                        throw new BusinessException(message);
+                    }
+
+                    logger.info("User authenticated successfully: {}", user.getEmail());
+                    return user.toResponseDto();
+                });
     }
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> getPendingRegistrations() {
         logger.info("Fetching pending registrations");
-        List<User> pendingUsers = userRepository.findPendingRegistrations(UserStatus.PENDING);
-        return pendingUsers.stream()
-                .map(userMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return userRepository.findPendingRegistrations(UserStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDto> getPendingRegistrationsPage(String cursor, int limit) {
+        logger.info("Fetching pending registrations page, limit: {}", limit);
+        int pageSize = clampPageSize(limit);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<UserResponseDto> users;
+        if (cursor == null || cursor.isEmpty()) {
+            users = userRepository.findByStatusPage(UserStatus.PENDING, pageable);
+        } else {
+            UserCursor position = UserCursor.decode(cursor);
+            users = userRepository.findByStatusPageAfter(UserStatus.PENDING,
+                    position.getCreatedAt(), position.getId(), pageable);
+        }
+        return toCursorPage(users, pageSize);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto approveUser(Long userId) {
         logger.info("Approving user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("User not found"));
-
-        if (user.getStatus() != UserStatus.PENDING) {
-            throw new BusinessException("Only pending users can be approved");
-        }
-
-        user.setStatus(UserStatus.ACTIVE);
-        User savedUser = userRepository.save(user);
+        UserResponseDto response = transitionUser(userId, ActivityType.APPROVED, user -> {
+            if (user.getStatus() != UserStatus.PENDING) {
+                throw new BusinessException("Only pending users can be approved");
+            }
+            return UserStatus.ACTIVE;
+        });
 
-        logger.info("User approved successfully: {}", savedUser.getEmail());
-        return userMapper.toResponseDto(savedUser);
+        logger.info("User approved successfully: {}", response.getEmail());
+        return response;
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void rejectUser(Long userId) {
         logger.info("Rejecting user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("User not found"));
-
-        if (user.getStatus() != UserStatus.PENDING) {
-            throw new BusinessException("Only pending users can be rejected");
-        }
-
-        user.setStatus(UserStatus.REJECTED);
-        userRepository.save(user);
+        UserResponseDto response = transitionUser(userId, ActivityType.REJECTED, user -> {
+            if (user.getStatus() != UserStatus.PENDING) {
+                throw new BusinessException("Only pending users can be rejected");
+            }
+            return UserStatus.REJECTED;
+        });
 
-        logger.info("User rejected successfully: {}", user.getEmail());
+        logger.info("User rejected successfully: {}", response.getEmail());
     }
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUsers() {
         logger.info("Fetching all non-admin users");
-        List<User> users = userRepository.findAllNonAdminUsers();
-        return users.stream()
-                .map(userMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return userRepository.findAllNonAdminUsers();
     }
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> getUsersByRole(Role role) {
         logger.info("Fetching users by role: {}", role);
-        List<User> users = userRepository.findByRole(role);
-        return users.stream()
-                .map(userMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return userRepository.findResponsesByRole(role);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDto> getAllUsersPage(String cursor, int limit) {
+        logger.info("Fetching non-admin users page, limit: {}", limit);
+        int pageSize = clampPageSize(limit);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<UserResponseDto> users;
+        if (cursor == null || cursor.isEmpty()) {
+            users = userRepository.findNonAdminUsersPage(pageable);
+        } else {
+            UserCursor position = UserCursor.decode(cursor);
+            users = userRepository.findNonAdminUsersPageAfter(position.getCreatedAt(), position.getId(), pageable);
+        }
+        return toCursorPage(users, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDto> getUsersByRolePage(Role role, String cursor, int limit) {
+        logger.info("Fetching users page by role: {}, limit: {}", role, limit);
+        int pageSize = clampPageSize(limit);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<UserResponseDto> users;
+        if (cursor == null || cursor.isEmpty()) {
+            users = userRepository.findByRolePage(role, pageable);
+        } else {
+            UserCursor position = UserCursor.decode(cursor);
+            users = userRepository.findByRolePageAfter(role, position.getCreatedAt(), position.getId(), pageable);
+        }
+        return toCursorPage(users, pageSize);
+    }
+
+    // Answered from the in-memory index; no connection is taken
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorPage<UserResponseDto> searchUsers(String query, String cursor, int limit) {
+        logger.info("Searching users, limit: {}", limit);
+        return userSearchIndex.search(query, cursor, clampPageSize(limit));
     }
 
+    // Runs outside a transaction like registerUser: a new password is hashed before the update
+    // transaction borrows a connection, so BCrypt never holds one
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto updateUser(Long userId, UserRegistrationDto updateDto) {
         logger.info("Updating user with ID: {}", userId);
 
+        if (userLookupCache.findById(userId).isEmpty()) {
+            throw new BusinessException("User not found");
+        }
+
+        // Hash the new password if provided
+        String encodedPassword = null;
+        if (updateDto.getPassword() != null && !updateDto.getPassword().isEmpty()) {
+            if (!updateDto.getPassword().equals(updateDto.getConfirmPassword())) {
+                throw new BusinessException("Passwords do not match");
+            }
+            encodedPassword = awaitHash(passwordHashingService.encode(updateDto.getPassword()));
+        }
+
+        String newPassword = encodedPassword;
+        try {
+            return new TransactionTemplate(transactionManager).execute(
+                    status -> applyUserUpdate(userId, updateDto, newPassword));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance wrote the key after the checks (its key filter and ours differ)
+            throw new BusinessException("Email or mobile number already exists");
+        }
+    }
+
+    private UserResponseDto applyUserUpdate(Long userId, UserRegistrationDto updateDto, String encodedPassword) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException("User not found"));
 
         // Check if email is being changed and if it already exists
         if (!user.getEmail().equals(updateDto.getEmail()) && 
-            userRepository.existsByEmail(updateDto.getEmail())) {
+            userKeyFilter.emailExists(updateDto.getEmail(), userRepository::existsByEmail)) {
             throw new BusinessException("Email already exists");
         }
 
+        // Mobile numbers are unique too (uk_user_mobile)
+        if (updateDto.getMobileNo() != null && !updateDto.getMobileNo().equals(user.getMobile()) &&
+            userKeyFilter.mobileExists(updateDto.getMobileNo(), userRepository::existsByMobile)) {
+            throw new BusinessException("Mobile number already exists");
+        }
+
+        String previousEmail = user.getEmail();
+        String previousMobile = user.getMobile();
+
         // Update user fields
         user.setFirstName(updateDto.getFirstName());
         user.setLastName(updateDto.getLastName());
         user.setEmail(updateDto.getEmail());
         user.setMobile(updateDto.getMobileNo());
         
+        Role previousRole = user.getRole();
         if (updateDto.getRoleCategory() != null) {
             user.setRole(Role.fromString(updateDto.getRoleCategory()));
         }
 
         // Update password if provided
-        if (updateDto.getPassword() != null && !updateDto.getPassword().isEmpty()) {
-            if (!updateDto.getPassword().equals(updateDto.getConfirmPassword())) {
-                throw new BusinessException("Passwords do not match");
-            }
-            user.setPassword(passwordEncoder.encode(updateDto.getPassword()));
+        boolean passwordChanged = encodedPassword != null;
+        if (passwordChanged) {
+            user.setPassword(encodedPassword);
+        }
+
+        if (passwordChanged || user.getRole() != previousRole) {
+            bumpStatusVersion(user);
         }
 
         User savedUser = userRepository.save(user);
+        userLookupCache.evict(savedUser.getId(), previousEmail, savedUser.getEmail());
+        if (!previousEmail.equals(savedUser.getEmail()) || !Objects.equals(previousMobile, savedUser.getMobile())) {
+            userKeyFilter.add(savedUser.getEmail(), savedUser.getMobile());
+            userKeyFilter.recordRemoval();
+        }
         logger.info("User updated successfully: {}", savedUser.getEmail());
 
-        return userMapper.toResponseDto(savedUser);
+        UserResponseDto response = userMapper.toResponseDto(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(response));
+        return response;
     }
 
     public void deleteUser(Long userId) {
@@ -207,25 +385,79 @@ public class UserService {
         }
 
         userRepository.delete(user);
+        userLookupCache.evict(user);
+        userKeyFilter.recordRemoval();
+        tokenRevocationRegistry.revokeAll(user.getId());
+        userActivityService.record(ActivityType.DELETED, user.getRole());
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user.getId()));
         logger.info("User deleted successfully: {}", user.getEmail());
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void toggleUserStatus(Long userId) {
         logger.info("Toggling status for user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("User not found"));
+        UserResponseDto response = transitionUser(userId, null, user -> {
+            if (user.getRole() == Role.ADMIN) {
+                throw new BusinessException("Cannot modify admin user status");
+            }
+            return user.getStatus() == UserStatus.ACTIVE ? UserStatus.INACTIVE : UserStatus.ACTIVE;
+        });
 
-        if (user.getRole() == Role.ADMIN) {
-            throw new BusinessException("Cannot modify admin user status");
+        logger.info("User status updated to {} for: {}", response.getStatus(), response.getEmail());
+    }
+
+    public BulkActionResultDto bulkApproveUsers(BulkUserActionDto request) {
+        logger.info("Bulk approving users: {}", request);
+        return applyBulkTransition(resolvePendingTargets(request), ActivityType.APPROVED, user -> {
+            if (user.getStatus() != UserStatus.PENDING) {
+                return "Only pending users can be approved";
+            }
+            user.setStatus(UserStatus.ACTIVE);
+            return null;
+        });
+    }
+
+    public BulkActionResultDto bulkRejectUsers(BulkUserActionDto request) {
+        logger.info("Bulk rejecting users: {}", request);
+        return applyBulkTransition(resolvePendingTargets(request), ActivityType.REJECTED, user -> {
+            if (user.getStatus() != UserStatus.PENDING) {
+                return "Only pending users can be rejected";
+            }
+            user.setStatus(UserStatus.REJECTED);
+            return null;
+        });
+    }
+
+    public BulkActionResultDto bulkToggleUserStatus(BulkUserActionDto request) {
+        logger.info("Bulk toggling user status: {}", request);
+        if (!request.hasIds()) {
+            throw new BusinessException("User IDs are required to toggle status");
         }
+        return applyBulkTransition(request.getIds(), null, user -> {
+            if (user.getRole() == Role.ADMIN) {
+                return "Cannot modify admin user status";
+            }
+            user.setStatus(user.getStatus() == UserStatus.ACTIVE ? UserStatus.INACTIVE : UserStatus.ACTIVE);
+            return null;
+        });
+    }
 
-        UserStatus newStatus = (user.getStatus() == UserStatus.ACTIVE) ? 
-                               UserStatus.INACTIVE : UserStatus.ACTIVE;
-        user.setStatus(newStatus);
-        
-        userRepository.save(user);
-        logger.info("User status updated to {} for: {}", newStatus, user.getEmail());
+    // Reads through the lookup cache after checking the entry against the stored row version,
+    // so a refreshed token reflects the current role, status and version on every instance
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserResponseDto refreshSession(Long userId, int statusVersion) {
+        UserLookupCache.Entry user = userLookupCache.findCurrentById(userId)
+                .orElseThrow(() -> new BusinessException("Session is no longer valid"));
+
+        if (user.getStatusVersion() != statusVersion) {
+            throw new BusinessException("Session is no longer valid");
+        }
+        if (user.getStatus() != UserStatus.ACTIVE) {
+            throw new BusinessException("Account access denied.");
+        }
+
+        return user.toResponseDto();
     }
 
     @Transactional(readOnly = true)
@@ -237,4 +469,204 @@ public class UserService {
     public Long getActiveUsersCountByRole(Role role) {
         return userRepository.countActiveUsersByRole(role);
     }
+
+    // One grouped scan instead of a COUNT per role/status; missing combinations read as zero
+    @Transactional(readOnly = true)
+    public Map<Role, Map<UserStatus, Long>> getUserCountsByRoleAndStatus() {
+        Map<Role, Map<UserStatus, Long>> counts = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+            for (UserStatus status : UserStatus.values()) {
+                byStatus.put(status, 0L);
+            }
+            counts.put(role, byStatus);
+        }
+        for (RoleStatusCount row : userRepository.countByRoleAndStatus()) {
+            counts.get(row.getRole()).put(row.getStatus(), row.getTotal());
+        }
+        return counts;
+    }
+
+    // Shared by the dashboard-stats endpoint and the dashboard event stream
+    @Transactional(readOnly = true)
+    public Map<String, Object> getDashboardStats() {
+        Map<Role, Map<UserStatus, Long>> counts = getUserCountsByRoleAndStatus();
+        Long totalStudents = counts.get(Role.STUDENT).get(UserStatus.ACTIVE);
+        Long totalFaculty = counts.get(Role.FACULTY).get(UserStatus.ACTIVE);
+        Long totalHR = counts.get(Role.HR).get(UserStatus.ACTIVE);
+        Long pendingRequests = counts.values().stream()
+            .mapToLong(byStatus -> byStatus.get(UserStatus.PENDING))
+            .sum();
+
+        // Insertion-ordered so equal stats always serialise to the same bytes (strong ETag)
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalStudents", totalStudents);
+        stats.put("totalFaculty", totalFaculty);
+        stats.put("totalHR", totalHR);
+        stats.put("pendingRequests", pendingRequests);
+        stats.put("activeBatches", 15); // Static data for now
+        stats.put("totalUsers", totalStudents + totalFaculty + totalHR);
+        return stats;
+    }
+
+    /**
+     * Applies a single-user status change without loading the entity: the current row comes
+     * through the lookup cache (no query when the entry is warm) and is written with one
+     * conditional UPDATE against the status and version that were read. If another write got
+     * there first, or the cached row refuses the change (it may be older than the database),
+     * the row is locked and the transition decided again on what is actually stored. A request
+     * is only rejected on that locked row, so of an approve and a reject racing on the same
+     * user exactly one wins and the other gets its usual error, while concurrent toggles all
+     * apply. The transition returns the new status or throws BusinessException; a null
+     * activity means activated/deactivated.
+     */
+    private UserResponseDto transitionUser(Long userId, ActivityType activity,
+                                           Function<UserLookupCache.Entry, UserStatus> transition) {
+        UserLookupCache.Entry cached = userLookupCache.findById(userId).orElse(null);
+        UserStatus expected = null;
+        if (cached != null) {
+            try {
+                expected = transition.apply(cached);
+            } catch (BusinessException staleOrRefused) {
+                // Decided below on the locked row
+            }
+        }
+        UserStatus newStatus = expected;
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            if (newStatus != null) {
+                UserResponseDto response = applyTransition(cached, newStatus, activity);
+                if (response != null) {
+                    return response;
+                }
+            }
+            UserLookupCache.Entry locked = userRepository.findByIdForUpdate(userId)
+                    .map(UserLookupCache.Entry::new)
+                    .orElseThrow(() -> new BusinessException("User not found"));
+            UserResponseDto response = applyTransition(locked, transition.apply(locked), activity);
+            if (response == null) {
+                throw new IllegalStateException("Locked user " + userId + " changed during its transition");
+            }
+            return response;
+        });
+    }
+
+    // Returns null when the row no longer matches the snapshot
+    private UserResponseDto applyTransition(UserLookupCache.Entry user, UserStatus newStatus, ActivityType activity) {
+        LocalDateTime now = LocalDateTime.now();
+        if (userRepository.transitionStatus(user.getId(), user.getStatus(), user.getVersion(), newStatus, now) == 0) {
+            return null;
+        }
+
+        UserResponseDto response = user.toTransitionedDto(newStatus, now);
+        userLookupCache.evict(user.getId(), user.getEmail());
+        tokenRevocationRegistry.revokeBelow(user.getId(), response.getStatusVersion());
+        ActivityType recorded = activity != null ? activity
+                : (newStatus == UserStatus.ACTIVE ? ActivityType.ACTIVATED : ActivityType.DEACTIVATED);
+        userActivityService.record(recorded, user.getRole());
+        eventPublisher.publishEvent(UserChangedEvent.statusChanged(response, user.getStatus()));
+        return response;
+    }
+
+    private void bumpStatusVersion(User user) {
+        user.setStatusVersion(user.getStatusVersion() + 1);
+        if (user.getId() != null) {
+            tokenRevocationRegistry.revokeBelow(user.getId(), user.getStatusVersion());
+        }
+    }
+
+    private String awaitHash(CompletableFuture<String> hash) {
+        try {
+            return hash.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private int clampPageSize(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // Queries fetch one extra row so the next cursor is only issued when another page exists
+    private CursorPage<UserResponseDto> toCursorPage(List<UserResponseDto> users, int pageSize) {
+        String nextCursor = null;
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            UserResponseDto last = users.get(pageSize - 1);
+            nextCursor = new UserCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(users, nextCursor);
+    }
+
+    private List<Long> resolvePendingTargets(BulkUserActionDto request) {
+        if (request.hasIds()) {
+            return request.getIds();
+        }
+
+        Role role = null;
+        if (request.getRole() != null && !request.getRole().isEmpty() && !"all".equalsIgnoreCase(request.getRole())) {
+            role = Role.fromString(request.getRole());
+        }
+        LocalDateTime createdBefore = request.getCreatedBefore() != null ? request.getCreatedBefore() : LocalDateTime.now();
+        int limit = request.getLimit() != null ? request.getLimit() : BulkUserActionDto.MAX_BATCH_SIZE;
+
+        return userRepository.findIdsByStatusCreatedBefore(UserStatus.PENDING, role, createdBefore,
+                PageRequest.of(0, Math.min(limit, BulkUserActionDto.MAX_BATCH_SIZE)));
+    }
+
+    /**
+     * Loads all targets with one locking SELECT, applies the transition in memory and lets
+     * Hibernate flush the dirty rows as JDBC batches (hibernate.jdbc.batch_size) at commit.
+     * The transition returns null on success or the reason the user was skipped.
+     */
+    private BulkActionResultDto applyBulkTransition(List<Long> ids, ActivityType activity,
+                                                    Function<User, String> transition) {
+        if (ids.size() > BulkUserActionDto.MAX_BATCH_SIZE) {
+            throw new BusinessException("At most " + BulkUserActionDto.MAX_BATCH_SIZE + " users can be processed per request");
+        }
+
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, User> usersById = userRepository.findAllByIdForUpdate(uniqueIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        BulkActionResultDto result = new BulkActionResultDto();
+        Map<ActivityType, Map<Role, Long>> activityCounts = new EnumMap<>(ActivityType.class);
+
+        for (Long id : uniqueIds) {
+            User user = usersById.get(id);
+            if (user == null) {
+                result.add(id, BulkActionResultDto.Outcome.NOT_FOUND, null, "User not found");
+                continue;
+            }
+
+            UserStatus previousStatus = user.getStatus();
+            String skipReason = transition.apply(user);
+            if (skipReason != null) {
+                result.add(id, BulkActionResultDto.Outcome.SKIPPED, user.getStatus(), skipReason);
+                continue;
+            }
+
+            ActivityType recorded = activity != null ? activity
+                    : (user.getStatus() == UserStatus.ACTIVE ? ActivityType.ACTIVATED : ActivityType.DEACTIVATED);
+            bumpStatusVersion(user);
+            userLookupCache.evict(user);
+            eventPublisher.publishEvent(UserChangedEvent.statusChanged(userMapper.toResponseDto(user), previousStatus));
+            activityCounts.computeIfAbsent(recorded, k -> new EnumMap<>(Role.class))
+                    .merge(user.getRole(), 1L, Long::sum);
+            result.add(id, BulkActionResultDto.Outcome.UPDATED, user.getStatus(), null);
+        }
+
+        activityCounts.forEach((type, byRole) ->
+                byRole.forEach((role, amount) -> userActivityService.record(type, role, amount)));
+
+        logger.info("Bulk transition finished: {} updated, {} skipped, {} not found",
+                result.getUpdated(), result.getSkipped(), result.getNotFound());
+        return result;
+    }
 }
\ No newline at end of file
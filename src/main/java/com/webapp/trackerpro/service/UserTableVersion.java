@@ -0,0 +1,121 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Version of the users table, used as the ETag of the admin read endpoints. It is the single
+ * row of user_table_version, which every UserChangedEvent bumps inside the transaction that
+ * made the change, so a write through any instance changes the tag every instance serves, and
+ * a write that rolls back changes nothing.
+ *
+ * <p>{@link #read} looks the tag up in the same read-only transaction as the caller's query:
+ * both run on one connection, so even on a lagging replica the body is never older than the
+ * tag it is sent with.
+ *
+ * <p>It also remembers which versions this instance's own writes produced, so
+ * DashboardStreamService can tell writes through other instances (which sent it no events)
+ * from its own.
+ */
+@Component
+public class UserTableVersion {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Bounded so it cannot grow while no dashboard asks; a cleared version only costs a resync
+    private static final int MAX_LOCAL_VERSIONS = 10_000;
+
+    private final Set<Long> localVersions = ConcurrentHashMap.newKeySet();
+
+    /** Runs {@code work} with the current tag, in one read-only transaction. */
+    public <T> T read(Function<String, T> work) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> work.apply(currentETag()));
+    }
+
+    public String currentETag() {
+        return jdbcTemplate.queryForObject("SELECT created_at, version FROM user_table_version WHERE id = 1",
+                (rs, rowNum) -> "\"users-" + Long.toString(rs.getTimestamp(1).getTime(), 36)
+                        + "-" + rs.getLong(2) + "\"");
+    }
+
+    public long currentVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM user_table_version WHERE id = 1", Long.class);
+    }
+
+    /**
+     * Whether every version after {@code from} up to {@code to} came from a write through this
+     * instance. Forgets the versions it checked.
+     */
+    public boolean onlyLocalChanges(long from, long to) {
+        boolean local = to > from && to - from <= MAX_LOCAL_VERSIONS;
+        for (long version = from + 1; local && version <= to; version++) {
+            local = localVersions.contains(version);
+        }
+        localVersions.removeIf(version -> version <= to);
+        return local;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            remember(bump());
+            return;
+        }
+        // Once per transaction, just before it commits, so the row lock is held only for the commit
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(synchronization -> synchronization instanceof BumpBeforeCommit);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new BumpBeforeCommit());
+        }
+    }
+
+    // Returns the new version; the row lock makes it this transaction's own
+    private long bump() {
+        jdbcTemplate.update("UPDATE user_table_version SET version = version + 1 WHERE id = 1");
+        return currentVersion();
+    }
+
+    private void remember(long version) {
+        if (localVersions.size() >= MAX_LOCAL_VERSIONS) {
+            localVersions.clear();
+        }
+        localVersions.add(version);
+    }
+
+    private final class BumpBeforeCommit implements TransactionSynchronization {
+
+        private long version = -1;
+
+        // Remembered before the commit makes the version visible to the dashboard poll
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            version = bump();
+            remember(version);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED && version >= 0) {
+                localVersions.remove(version);
+            }
+        }
+    }
+}
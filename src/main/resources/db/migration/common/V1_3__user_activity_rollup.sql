@@ -0,0 +1,13 @@
+-- Daily activity counters per role, written with each user change (UserActivityService)
+
+CREATE TABLE user_activity_rollup (
+    activity_date DATE   NOT NULL,
+    role          ENUM ('ADMIN','FACULTY','HR','STUDENT') NOT NULL,
+    registrations BIGINT NOT NULL,
+    approvals     BIGINT NOT NULL,
+    rejections    BIGINT NOT NULL,
+    activations   BIGINT NOT NULL,
+    deactivations BIGINT NOT NULL,
+    deletions     BIGINT NOT NULL,
+    PRIMARY KEY (activity_date, role)
+);
@@ -0,0 +1,6 @@
+-- Keyset pagination ordered by (created_at, id), overall and per role or status. V2 drops the
+-- single-column role and status indexes these make redundant; V4 turns them descending.
+
+CREATE INDEX idx_user_created_at_id ON users (created_at, id);
+CREATE INDEX idx_user_role_created_at_id ON users (role, created_at, id);
+CREATE INDEX idx_user_status_created_at_id ON users (status, created_at, id);
@@ -0,0 +1,15 @@
+-- Indexes shaped after the UserRepository queries. Valid on MySQL and on H2 in MySQL mode.
+
+-- findActiveUsersByRole / countActiveUsersByRole (role = ? AND status = 'ACTIVE' ORDER BY
+-- first_name), findByRoleAndStatus, and countByRoleAndStatus, which it covers
+CREATE INDEX idx_user_role_status_first_name ON users (role, status, first_name);
+
+-- existsByMobile and findExistingMobiles; registration and import already refuse duplicates.
+-- NULLs (no mobile) do not collide.
+CREATE UNIQUE INDEX uk_user_mobile ON users (mobile);
+
+-- Covered by the unique constraint on email and by the leading columns of
+-- idx_user_role_created_at_id / idx_user_status_created_at_id; only slowed down writes
+DROP INDEX idx_user_email ON users;
+DROP INDEX idx_user_role ON users;
+DROP INDEX idx_user_status ON users;
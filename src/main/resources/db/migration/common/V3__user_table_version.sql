@@ -0,0 +1,11 @@
+-- Change counter behind the ETag of the admin read endpoints (UserTableVersion). Every user
+-- write bumps it in its own transaction, so all instances serve the same tag. created_at is
+-- part of the tag: tags issued against a database that was later recreated never match.
+CREATE TABLE user_table_version (
+    id         INT         NOT NULL,
+    version    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO user_table_version (id, version, created_at) VALUES (1, 0, CURRENT_TIMESTAMP(6));
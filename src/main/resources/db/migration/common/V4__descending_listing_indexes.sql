@@ -0,0 +1,15 @@
+-- The listings and keyset pages read newest first (created_at DESC, id DESC). Built in that
+-- order, the index hands rows over already sorted and a page stops after `limit` entries; H2
+-- cannot read an ascending index backwards for that. MySQL 8 keeps DESC key parts; older
+-- MySQL ignores the keyword and scans the ascending index backwards, as before.
+-- The oldest-first bulk target query (status = ? AND created_at < ?) still uses
+-- idx_user_status_created_at_id as a range, in reverse.
+
+DROP INDEX idx_user_created_at_id ON users;
+CREATE INDEX idx_user_created_at_id ON users (created_at DESC, id DESC);
+
+DROP INDEX idx_user_role_created_at_id ON users;
+CREATE INDEX idx_user_role_created_at_id ON users (role, created_at DESC, id DESC);
+
+DROP INDEX idx_user_status_created_at_id ON users;
+CREATE INDEX idx_user_status_created_at_id ON users (status, created_at DESC, id DESC);
@@ -0,0 +1,9 @@
+-- Same as mysql/V1_2__user_versions_and_sequence.sql, with a real sequence
+
+ALTER TABLE users ADD COLUMN status_version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+
+-- Increment matches User.ID_ALLOCATION_SIZE
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM users);
@@ -0,0 +1,22 @@
+-- Same schema as mysql/V1__baseline.sql for the embedded H2 database (MODE=MySQL): what
+-- `ddl-auto: update` built from the User entity before migrations were introduced
+
+CREATE TABLE users (
+    id         BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    created_at TIMESTAMP(6) NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    first_name VARCHAR(50)  NOT NULL,
+    last_name  VARCHAR(50),
+    mobile     VARCHAR(10),
+    password   VARCHAR(255) NOT NULL,
+    role       ENUM ('ADMIN','FACULTY','HR','STUDENT') NOT NULL,
+    status     ENUM ('ACTIVE','INACTIVE','PENDING','REJECTED') NOT NULL,
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_user_email ON users (email);
+CREATE INDEX idx_user_role ON users (role);
+CREATE INDEX idx_user_status ON users (status);
+
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
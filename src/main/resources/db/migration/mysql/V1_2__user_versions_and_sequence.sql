@@ -0,0 +1,15 @@
+-- Token and optimistic-lock versions, and ids from users_seq instead of AUTO_INCREMENT.
+-- Existing rows start at version 0, as new ones do.
+
+ALTER TABLE users
+    ADD COLUMN status_version INT    NOT NULL DEFAULT 0,
+    ADD COLUMN version        BIGINT NOT NULL DEFAULT 0,
+    MODIFY id BIGINT NOT NULL;   -- drops AUTO_INCREMENT
+
+-- MySQL has no sequences: Hibernate emulates users_seq with a one-row table. It starts one
+-- allocation block past the existing ids (IdSequenceInitializer keeps it there on start-up)
+CREATE TABLE users_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO users_seq SELECT COALESCE(MAX(id), 0) + 50 FROM users;
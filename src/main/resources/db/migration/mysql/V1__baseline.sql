@@ -0,0 +1,24 @@
+-- The schema `ddl-auto: update` built from the User entity before migrations were introduced
+-- (IDENTITY ids, single-column indexes, Hibernate's name for the email constraint). Databases
+-- created that way are baselined at this version (spring.flyway.baseline-on-migrate) and skip
+-- it; V1_2 onwards bring them, and new databases, to the current schema.
+
+CREATE TABLE users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    first_name VARCHAR(50)  NOT NULL,
+    last_name  VARCHAR(50),
+    mobile     VARCHAR(10),
+    password   VARCHAR(255) NOT NULL,
+    role       ENUM ('ADMIN','FACULTY','HR','STUDENT') NOT NULL,
+    status     ENUM ('ACTIVE','INACTIVE','PENDING','REJECTED') NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_user_email ON users (email);
+CREATE INDEX idx_user_role ON users (role);
+CREATE INDEX idx_user_status ON users (status);
+
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
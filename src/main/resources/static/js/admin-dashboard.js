@@ -0,0 +1,587 @@
+// Global variables
+let currentUser = null;
+let pendingRegistrations = [];
+let allUsers = [];
+let pendingNextCursor = null;
+let usersNextCursor = null;
+const PAGE_SIZE = 50;
+
+function clearSession() {
+    sessionStorage.removeItem('user');
+    sessionStorage.removeItem('token');
+    sessionStorage.removeItem('refreshToken');
+}
+
+// Exchange the refresh token for a new token pair; false when the session is gone
+async function refreshSession() {
+    const refreshToken = sessionStorage.getItem('refreshToken');
+    if (!refreshToken) return false;
+    try {
+        const response = await fetch('/api/auth/refresh', {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken })
+        });
+        if (!response.ok) return false;
+        const result = await response.json();
+        sessionStorage.setItem('user', JSON.stringify(result.user));
+        sessionStorage.setItem('token', result.token);
+        sessionStorage.setItem('refreshToken', result.refreshToken);
+        return true;
+    } catch (error) {
+        return false;
+    }
+}
+
+// fetch wrapper for admin APIs: sends the bearer token and retries once after a refresh
+async function apiFetch(url, options = {}, retried = false) {
+    const headers = Object.assign({}, options.headers, {
+        'Authorization': `Bearer ${sessionStorage.getItem('token')}`
+    });
+    const response = await fetch(url, Object.assign({}, options, { headers }));
+    if (response.status === 401) {
+        if (!retried && await refreshSession()) {
+            return apiFetch(url, options, true);
+        }
+        clearSession();
+        window.location.href = '/index.html';
+    }
+    return response;
+}
+
+document.addEventListener('DOMContentLoaded', function() {
+    // Check authentication
+    const userStr = sessionStorage.getItem('user');
+    if (!userStr || !sessionStorage.getItem('token')) {
+        window.location.href = '/index.html';
+        return;
+    }
+
+    currentUser = JSON.parse(userStr);
+
+    if (currentUser.role !== 'ADMIN') {
+        showNotification('Access denied. Admin privileges required.', 'error');
+        clearSession();
+        setTimeout(() => window.location.href = '/index.html', 2000);
+        return;
+    }
+
+    // Update user info
+    document.querySelector('.user-name').textContent = currentUser.firstName + ' ' + (currentUser.lastName || '');
+
+    // Initialize dashboard
+    loadDashboardData();
+    initializeEventListeners();
+});
+
+// Initialize event listeners
+function initializeEventListeners() {
+    // Sidebar navigation
+    document.querySelectorAll('.sidebar-menu a').forEach(link => {
+        link.addEventListener('click', function(e) {
+            e.preventDefault();
+            const pageId = this.getAttribute('data-page');
+            if (!pageId) return;
+
+            if (pageId === 'logout') {
+                if (confirm('Are you sure you want to logout?')) {
+                    if (dashboardStream) dashboardStream.close();
+                    clearSession();
+                    window.location.href = '/index.html';
+                }
+                return;
+            }
+
+            // Update active sidebar
+            document.querySelectorAll('.sidebar-menu li').forEach(li => li.classList.remove('active'));
+            this.parentElement.classList.add('active');
+
+            // Show correct page
+            document.querySelectorAll('.page').forEach(page => {
+                page.classList.toggle('active-page', page.id === `${pageId}-page`);
+            });
+
+            // Load page-specific data
+            if (pageId === 'users') {
+                loadAllUsers();
+            }
+        });
+    });
+
+    // Notifications
+    document.querySelector('.header-notifications').addEventListener('click', () => {
+        showNotification('8 New Notifications:\
+- 3 new user registrations\
+- 2 upcoming batch starts\
+- 1 system update pending\
+- 2 assignments due for grading', 'info');
+    });
+
+    // Search functionality
+    document.querySelector('.header-search input').addEventListener('input', function(e) {
+        const searchTerm = e.target.value.toLowerCase();
+        filterUsers(searchTerm);
+    });
+}
+
+// Load dashboard data; stats and the pending queue arrive with the stream snapshot
+async function loadDashboardData() {
+    try {
+        await loadAllUsers();
+        await connectDashboardStream();
+    } catch (error) {
+        console.error('Error loading dashboard data:', error);
+        showNotification('Error loading dashboard data', 'error');
+    }
+}
+
+// Live updates: one snapshot on connect, then deltas pushed after each change
+let dashboardStream = null;
+
+// The URL can end up in access logs, so it carries a one-minute stream token, not the bearer token
+async function connectDashboardStream() {
+    const response = await apiFetch('/api/admin/stream-token', { method: 'POST' });
+    if (!response.ok) {
+        throw new Error(`Stream token request failed: ${response.status}`);
+    }
+    const token = encodeURIComponent((await response.json()).data.token);
+    dashboardStream = new EventSource(`/api/admin/stream?stream_token=${token}`);
+
+    dashboardStream.addEventListener('snapshot', e => {
+        const snapshot = JSON.parse(e.data);
+        updateDashboardStats(snapshot.stats);
+        pendingRegistrations = snapshot.pending;
+        pendingNextCursor = snapshot.pendingNext;
+        document.getElementById('pending-load-more').style.display = pendingNextCursor ? 'inline-block' : 'none';
+        updatePendingRegistrationsTable();
+    });
+    dashboardStream.addEventListener('stats', e => updateDashboardStats(JSON.parse(e.data)));
+    dashboardStream.addEventListener('user-registered', e => applyUserChange(JSON.parse(e.data).user));
+    dashboardStream.addEventListener('user-status-changed', e => applyUserChange(JSON.parse(e.data).user));
+    dashboardStream.addEventListener('user-updated', e => applyUserChange(JSON.parse(e.data).user));
+    dashboardStream.addEventListener('user-deleted', e => removeUser(JSON.parse(e.data).id));
+    dashboardStream.addEventListener('users-imported', () => {
+        loadPendingRegistrations();
+        loadAllUsers();
+    });
+    // Changed through another server: no deltas arrived for it, so reload the lists
+    dashboardStream.addEventListener('resync', () => {
+        loadPendingRegistrations();
+        loadAllUsers();
+    });
+
+    // The server closes streams periodically; reconnect with a fresh stream token. apiFetch
+    // refreshes the session, or returns to the login page when it is gone.
+    dashboardStream.onerror = () => {
+        dashboardStream.close();
+        setTimeout(() => connectDashboardStream().catch(error => {
+            console.error('Error reconnecting dashboard stream:', error);
+            showNotification('Live updates stopped; reload the page', 'error');
+        }), 2000);
+    };
+}
+
+function applyUserChange(user) {
+    pendingRegistrations = pendingRegistrations.filter(u => u.id !== user.id);
+    if (user.status === 'PENDING') {
+        pendingRegistrations.unshift(user);
+    }
+    updatePendingRegistrationsTable();
+
+    const selectedRole = document.getElementById('role-filter').value;
+    const index = allUsers.findIndex(u => u.id === user.id);
+    if (index >= 0) {
+        allUsers[index] = user;
+    } else if (user.role !== 'ADMIN' && (selectedRole === 'all' || selectedRole === user.role)) {
+        allUsers.unshift(user);
+    }
+    updateUsersTable();
+}
+
+function removeUser(userId) {
+    pendingRegistrations = pendingRegistrations.filter(u => u.id !== userId);
+    allUsers = allUsers.filter(u => u.id !== userId);
+    updatePendingRegistrationsTable();
+    updateUsersTable();
+}
+
+// Update dashboard statistics
+function updateDashboardStats(stats) {
+    document.getElementById('total-students').textContent = stats.totalStudents || 0;
+    document.getElementById('total-faculty').textContent = stats.totalFaculty || 0;
+    document.getElementById('active-batches').textContent = stats.activeBatches || 0;
+    document.getElementById('pending-requests').textContent = stats.pendingRequests || 0;
+    document.getElementById('pending-badge').textContent = stats.pendingRequests || 0;
+}
+
+// Load pending registrations
+async function loadPendingRegistrations(append = false) {
+    try {
+        const params = new URLSearchParams({ limit: PAGE_SIZE });
+        if (append && pendingNextCursor) {
+            params.set('cursor', pendingNextCursor);
+        }
+
+        const response = await apiFetch(`/api/admin/pending-registrations?${params}`);
+        const result = await response.json();
+
+        if (result.success) {
+            pendingRegistrations = append ? pendingRegistrations.concat(result.data) : result.data;
+            pendingNextCursor = result.next;
+            document.getElementById('pending-load-more').style.display = pendingNextCursor ? 'inline-block' : 'none';
+            updatePendingRegistrationsTable();
+        }
+    } catch (error) {
+        console.error('Error loading pending registrations:', error);
+    }
+}
+
+function loadMorePendingRegistrations() {
+    loadPendingRegistrations(true);
+}
+
+// Update pending registrations table
+function updatePendingRegistrationsTable() {
+    const tbody = document.getElementById('pending-registrations-tbody');
+    tbody.innerHTML = '';
+
+    if (pendingRegistrations.length === 0) {
+        tbody.innerHTML = '<tr><td colspan="6" style="text-align: center; padding: 20px; color: #666;">No pending registrations</td></tr>';
+        return;
+    }
+
+    pendingRegistrations.forEach(user => {
+        const row = document.createElement('tr');
+        row.innerHTML = `
+            <td>${user.firstName} ${user.lastName || ''}</td>
+            <td>${user.email}</td>
+            <td><span class="badge badge-primary">${user.role}</span></td>
+            <td>${user.mobile || 'N/A'}</td>
+            <td>${new Date(user.createdAt).toLocaleDateString()}</td>
+            <td class="actions">
+                <button class="btn btn-sm btn-success" onclick="approveUser(${user.id})">Approve</button>
+                <button class="btn btn-sm btn-danger" onclick="rejectUser(${user.id})">Reject</button>
+                <button class="btn btn-sm btn-outline" onclick="viewUser(${user.id})">View</button>
+            </td>
+        `;
+        tbody.appendChild(row);
+    });
+}
+
+// Load all users
+async function loadAllUsers(append = false) {
+    try {
+        const params = new URLSearchParams({ limit: PAGE_SIZE });
+        const selectedRole = document.getElementById('role-filter').value;
+        if (selectedRole !== 'all') {
+            params.set('role', selectedRole);
+        }
+        if (append && usersNextCursor) {
+            params.set('cursor', usersNextCursor);
+        }
+
+        const response = await apiFetch(`/api/admin/users?${params}`);
+        const result = await response.json();
+
+        if (result.success) {
+            allUsers = append ? allUsers.concat(result.data) : result.data;
+            usersNextCursor = result.next;
+            document.getElementById('users-load-more').style.display = usersNextCursor ? 'inline-block' : 'none';
+            updateUsersTable();
+        }
+    } catch (error) {
+        console.error('Error loading users:', error);
+    }
+}
+
+function loadMoreUsers() {
+    loadAllUsers(true);
+}
+
+// Update users table
+function updateUsersTable(users = allUsers) {
+    const tbody = document.getElementById('all-users-tbody');
+    tbody.innerHTML = '';
+
+    if (users.length === 0) {
+        tbody.innerHTML = '<tr><td colspan="6" style="text-align: center; padding: 20px; color: #666;">No users found</td></tr>';
+        return;
+    }
+
+    users.forEach(user => {
+        const row = document.createElement('tr');
+        const statusClass = user.status === 'ACTIVE' ? 'badge-success' :
+                           user.status === 'PENDING' ? 'badge-warning' : 'badge-danger';
+
+        row.innerHTML = `
+            <td>${user.firstName} ${user.lastName || ''}</td>
+            <td>${user.email}</td>
+            <td><span class="badge badge-primary">${user.role}</span></td>
+            <td><span class="badge ${statusClass}">${user.status}</span></td>
+            <td>${user.mobile || 'N/A'}</td>
+            <td class="actions">
+                <button class="btn btn-sm btn-outline" onclick="viewUser(${user.id})">View</button>
+                <button class="btn btn-sm ${user.status === 'ACTIVE' ? 'btn-warning' : 'btn-success'}"
+                        onclick="toggleUserStatus(${user.id})">
+                    ${user.status === 'ACTIVE' ? 'Disable' : 'Enable'}
+                </button>
+                <button class="btn btn-sm btn-danger" onclick="deleteUser(${user.id})">Delete</button>
+            </td>
+        `;
+        tbody.appendChild(row);
+    });
+}
+
+// Filter users by role
+function filterUsersByRole() {
+    loadAllUsers();
+}
+
+// Filter users by search term
+function filterUsers(searchTerm) {
+    const filteredUsers = allUsers.filter(user =>
+        user.firstName.toLowerCase().includes(searchTerm) ||
+        (user.lastName && user.lastName.toLowerCase().includes(searchTerm)) ||
+        user.email.toLowerCase().includes(searchTerm) ||
+        user.role.toLowerCase().includes(searchTerm)
+    );
+    updateUsersTable(filteredUsers);
+}
+
+// Approve user
+async function approveUser(userId) {
+    try {
+        const response = await apiFetch(`/api/admin/approve-user/${userId}`, {
+            method: 'POST'
+        });
+
+        const result = await response.json();
+
+        if (result.success) {
+            showNotification('User approved successfully!', 'success');
+        } else {
+            showNotification(result.message || 'Failed to approve user', 'error');
+        }
+    } catch (error) {
+        console.error('Error approving user:', error);
+        showNotification('Network error. Please try again.', 'error');
+    }
+}
+
+// Reject user
+async function rejectUser(userId) {
+    if (!confirm('Are you sure you want to reject this user? This action cannot be undone.')) {
+        return;
+    }
+
+    try {
+        const response = await apiFetch(`/api/admin/reject-user/${userId}`, {
+            method: 'POST'
+        });
+
+        const result = await response.json();
+
+        if (result.success) {
+            showNotification('User rejected successfully!', 'success');
+        } else {
+            showNotification(result.message || 'Failed to reject user', 'error');
+        }
+    } catch (error) {
+        console.error('Error rejecting user:', error);
+        showNotification('Network error. Please try again.', 'error');
+    }
+}
+
+// Toggle user status
+async function toggleUserStatus(userId) {
+    const user = allUsers.find(u => u.id === userId);
+    const action = user.status === 'ACTIVE' ? 'disable' : 'enable';
+
+    if (!confirm(`Are you sure you want to ${action} this user?`)) {
+        return;
+    }
+
+    try {
+        const response = await apiFetch(`/api/admin/toggle-user-status/${userId}`, {
+            method: 'POST'
+        });
+
+        const result = await response.json();
+
+        if (result.success) {
+            showNotification(`User ${action}d successfully!`, 'success');
+        } else {
+            showNotification(result.message || `Failed to ${action} user`, 'error');
+        }
+    } catch (error) {
+        console.error(`Error ${action}ing user:`, error);
+        showNotification('Network error. Please try again.', 'error');
+    }
+}
+
+// Delete user
+async function deleteUser(userId) {
+    if (!confirm('Are you sure you want to delete this user? This action cannot be undone.')) {
+        return;
+    }
+
+    try {
+        const response = await apiFetch(`/api/admin/users/${userId}`, {
+            method: 'DELETE'
+        });
+
+        const result = await response.json();
+
+        if (result.success) {
+            showNotification('User deleted successfully!', 'success');
+        } else {
+            showNotification(result.message || 'Failed to delete user', 'error');
+        }
+    } catch (error) {
+        console.error('Error deleting user:', error);
+        showNotification('Network error. Please try again.', 'error');
+    }
+}
+
+// View user details
+function viewUser(userId) {
+    const user = [...pendingRegistrations, ...allUsers].find(u => u.id === userId);
+    if (!user) {
+        showNotification('User not found', 'error');
+        return;
+    }
+
+    const content = `
+        <div class="form-group">
+            <label>Full Name:</label>
+            <p>${user.firstName} ${user.lastName || ''}</p>
+        </div>
+        <div class="form-group">
+            <label>Email:</label>
+            <p>${user.email}</p>
+        </div>
+        <div class="form-group">
+            <label>Mobile:</label>
+            <p>${user.mobile || 'N/A'}</p>
+        </div>
+        <div class="form-group">
+            <label>Role:</label>
+            <p><span class="badge badge-primary">${user.role}</span></p>
+        </div>
+        <div class="form-group">
+            <label>Status:</label>
+            <p><span class="badge ${user.status === 'ACTIVE' ? 'badge-success' :
+                                 user.status === 'PENDING' ? 'badge-warning' : 'badge-danger'}">${user.status}</span></p>
+        </div>
+        <div class="form-group">
+            <label>Created:</label>
+            <p>${new Date(user.createdAt).toLocaleString()}</p>
+        </div>
+        <div class="form-group">
+            <label>Last Updated:</label>
+            <p>${new Date(user.updatedAt).toLocaleString()}</p>
+        </div>
+    `;
+
+    document.getElementById('viewUserContent').innerHTML = content;
+    openModal('viewUserModal');
+}
+
+// Add new user
+async function addUser() {
+    const form = document.getElementById('addUserForm');
+    const formData = new FormData(form);
+
+    const userData = {
+        firstName: document.getElementById('add-firstName').value,
+        lastName: document.getElementById('add-lastName').value,
+        email: document.getElementById('add-email').value,
+        mobile: document.getElementById('add-mobile').value,
+        role: document.getElementById('add-role').value,
+        password: document.getElementById('add-password').value,
+        confirmPassword: document.getElementById('add-password').value,
+        roleCategory: document.getElementById('add-role').value
+    };
+
+    if (!userData.firstName || !userData.email || !userData.role || !userData.password) {
+        showNotification('Please fill in all required fields', 'error');
+        return;
+    }
+
+    try {
+        const response = await fetch('/api/auth/register', {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json',
+            },
+            body: JSON.stringify(userData)
+        });
+
+        const result = await response.json();
+
+        if (result.success) {
+            showNotification('User added successfully!', 'success');
+            closeModal('addUserModal');
+            form.reset();
+
+            // Auto-approve the user since admin is adding
+            if (result.user && result.user.id) {
+                await approveUser(result.user.id);
+            }
+        } else {
+            showNotification(result.message || 'Failed to add user', 'error');
+        }
+    } catch (error) {
+        console.error('Error adding user:', error);
+        showNotification('Network error. Please try again.', 'error');
+    }
+}
+
+// Modal functions
+function openModal(modalId) {
+    document.getElementById(modalId).classList.add('active');
+}
+
+function closeModal(modalId) {
+    document.getElementById(modalId).classList.remove('active');
+}
+
+function openAddUserModal() {
+    openModal('addUserModal');
+}
+
+// Show notification
+function showNotification(message, type = 'success') {
+    const notification = document.createElement('div');
+    notification.className = `notification ${type}`;
+    notification.textContent = message;
+
+    document.body.appendChild(notification);
+
+    // Trigger animation
+    setTimeout(() => notification.classList.add('show'), 100);
+
+    // Remove notification
+    setTimeout(() => {
+        notification.classList.remove('show');
+        setTimeout(() => {
+            if (notification.parentNode) {
+                notification.parentNode.removeChild(notification);
+            }
+        }, 300);
+    }, 5000);
+}
+
+// Global functions for onclick handlers
+window.approveUser = approveUser;
+window.rejectUser = rejectUser;
+window.toggleUserStatus = toggleUserStatus;
+window.deleteUser = deleteUser;
+window.viewUser = viewUser;
+window.addUser = addUser;
+window.openModal = openModal;
+window.closeModal = closeModal;
+window.openAddUserModal = openAddUserModal;
+window.filterUsersByRole = filterUsersByRole;
+window.loadMorePendingRegistrations = loadMorePendingRegistrations;
+window.loadMoreUsers = loadMoreUsers;
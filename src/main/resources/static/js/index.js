@@ -0,0 +1,206 @@
+// === CONFIGURATION ===
+const CONFIG = {
+    activeClass: 'active',
+    errorClass: 'error',
+    animationDuration: 300
+};
+
+// === TAB MANAGEMENT (kept for compatibility) ===
+class TabManager {
+    constructor() {
+        this.tabButtons = document.querySelectorAll('.tab-button');
+        this.formPanels = document.querySelectorAll('.form-panel');
+        this.init();
+    }
+
+    init() {
+        this.tabButtons.forEach(button => {
+            button.addEventListener('click', (e) => this.handleTabClick(e));
+        });
+    }
+
+    handleTabClick(event) {
+        const targetTab = event.target.getAttribute('data-tab');
+        this.switchTab(targetTab);
+    }
+
+    switchTab(targetTab) {
+        // Remove active from all tabs and panels
+        this.tabButtons.forEach(btn => btn.classList.remove(CONFIG.activeClass));
+        this.formPanels.forEach(panel => panel.classList.remove(CONFIG.activeClass));
+
+        // Add active to clicked tab and corresponding panel
+        const activeButton = document.querySelector(`[data-tab="${targetTab}"]`);
+        const activePanel = document.getElementById(`${targetTab}-panel`);
+
+        if (activeButton && activePanel) {
+            activeButton.classList.add(CONFIG.activeClass);
+            activePanel.classList.add(CONFIG.activeClass);
+        }
+    }
+}
+
+// === PASSWORD UTILITY ===
+class PasswordToggle {
+    static toggle(inputId) {
+        const input = document.getElementById(inputId);
+        const toggle = input.nextElementSibling;
+
+        if (input && toggle) {
+            const isPassword = input.type === 'password';
+            input.type = isPassword ? 'text' : 'password';
+            toggle.textContent = isPassword ? '🙈' : '👁️';
+        }
+    }
+}
+
+// === FORM VALIDATION ===
+class FormValidator {
+    constructor() {
+        this.forms = document.querySelectorAll('form');
+        this.init();
+    }
+
+    init() {
+        this.forms.forEach(form => {
+            form.addEventListener('submit', (e) => this.handleSubmit(e));
+        });
+        this.initErrorRemoval();
+    }
+
+    async handleSubmit(event) {
+        event.preventDefault();
+
+        const form = event.target;
+        const formData = new FormData(form);
+
+        // Get form fields based on which form was submitted
+        let email, password;
+        if (form.id === 'student-form') {
+            email = document.getElementById('student-email').value;
+            password = document.getElementById('student-password').value;
+        } else {
+            email = document.getElementById('employer-email').value;
+            password = document.getElementById('employer-password').value;
+        }
+
+        const loginData = {
+            email: email,
+            password: password,
+            rememberMe: form.id === 'employer-form' ? document.getElementById('remember-me').checked : false
+        };
+
+        try {
+            // Check if this is admin login
+            const isAdminLogin = email === 'admin@trackerpro.com';
+            const apiEndpoint = isAdminLogin ? '/api/auth/admin/login' : '/api/auth/login';
+
+            const response = await fetch(apiEndpoint, {
+                method: 'POST',
+                headers: {
+                    'Content-Type': 'application/json',
+                },
+                body: JSON.stringify(loginData)
+            });
+
+            const result = await response.json();
+
+            if (result.success) {
+                this.showNotification('Login successful! Redirecting...', 'success');
+                // Store user info in sessionStorage
+                sessionStorage.setItem('user', JSON.stringify(result.user));
+                sessionStorage.setItem('token', result.token);
+                sessionStorage.setItem('refreshToken', result.refreshToken);
+
+                // Redirect based on role
+                setTimeout(() => {
+                    if (result.user.role === 'ADMIN') {
+                        window.location.href = '/adminDashboard.html';
+                    } else {
+                        window.location.href = '/adminDashboard.html';
+                    }
+                }, 1500);
+            } else {
+                this.showNotification(result.message || 'Login failed!', 'error');
+            }
+        } catch (error) {
+            console.error('Login error:', error);
+            this.showNotification('Network error. Please try again.', 'error');
+        }
+    }
+
+    initErrorRemoval() {
+        document.querySelectorAll('.form-input').forEach(input => {
+            input.addEventListener('focus', () => this.removeError(input));
+        });
+    }
+
+    removeError(input) {
+        input.classList.remove(CONFIG.errorClass);
+        const errorMsg = input.parentElement.querySelector('.error-message');
+        if (errorMsg) {
+            errorMsg.style.display = 'none';
+        }
+    }
+
+    showNotification(message, type = 'success') {
+        console.log(`${type.toUpperCase()}: ${message}`);
+
+        // Create notification element
+        const notification = document.createElement('div');
+        notification.style.cssText = `
+            position: fixed;
+            top: 20px;
+            right: 20px;
+            padding: 15px 20px;
+            border-radius: 5px;
+            color: white;
+            font-weight: 500;
+            z-index: 10000;
+            max-width: 300px;
+            word-wrap: break-word;
+            ${type === 'success' ? 'background-color: #28a745;' : 'background-color: #dc3545;'}
+        `;
+        notification.textContent = message;
+
+        document.body.appendChild(notification);
+
+        // Remove notification after 5 seconds
+        setTimeout(() => {
+            if (notification.parentNode) {
+                notification.parentNode.removeChild(notification);
+            }
+        }, 5000);
+    }
+
+    static validateEmail(email) {
+        return /^[^\s@]+@[^\s@]+\.[^\s@]+$/.test(email);
+    }
+}
+
+// === GLOBAL FUNCTIONS (for HTML onclick) ===
+function togglePassword(inputId) {
+    PasswordToggle.toggle(inputId);
+}
+
+// === INITIALIZATION ===
+document.addEventListener('DOMContentLoaded', function() {
+    // Initialize components
+    new TabManager();
+    new FormValidator();
+
+    console.log('TackerPro login system initialized successfully');
+});
+
+// === UTILITY FUNCTIONS ===
+function debounce(func, wait) {
+    let timeout;
+    return function executedFunction(...args) {
+        const later = () => {
+            clearTimeout(timeout);
+            func(...args);
+        };
+        clearTimeout(timeout);
+        timeout = setTimeout(later, wait);
+    };
+}
@@ -0,0 +1,137 @@
+document.getElementById('registrationForm').addEventListener('submit', async function(e) {
+  e.preventDefault();
+
+  // Clear previous errors
+  const errorGroups = document.querySelectorAll('.form-group.error');
+  errorGroups.forEach(group => group.classList.remove('error'));
+
+  let isValid = true;
+
+  // Validate First Name
+  const firstName = document.getElementById('firstName');
+  if (!firstName.value.trim() || firstName.value.trim().length < 2) {
+    showError(firstName, 'Please enter a valid first name');
+    isValid = false;
+  }
+
+  // Validate Role Category
+  const roleCategory = document.getElementById('roleCategory');
+  if (!roleCategory.value) {
+    showError(roleCategory, 'Please select a role');
+    isValid = false;
+  }
+
+  // Validate Password
+  const password = document.getElementById('password');
+  if (!password.value || password.value.length < 6) {
+    showError(password, 'Password must be at least 6 characters');
+    isValid = false;
+  }
+
+  // Validate Mobile Number
+  const mobileNo = document.getElementById('mobileNo');
+  const mobilePattern = /^[0-9]{10}$/;
+  if (!mobilePattern.test(mobileNo.value)) {
+    showError(mobileNo, 'Please enter a valid 10-digit mobile number');
+    isValid = false;
+  }
+
+  // Validate Confirm Password
+  const confirmPassword = document.getElementById('confirmPassword');
+  if (confirmPassword.value !== password.value) {
+    showError(confirmPassword, 'Passwords do not match');
+    isValid = false;
+  }
+
+  // Validate Email
+  const email = document.getElementById('email');
+  const emailPattern = /^[^\s@]+@[^\s@]+\.[^\s@]+$/;
+  if (!emailPattern.test(email.value)) {
+    showError(email, 'Please enter a valid email address');
+    isValid = false;
+  }
+
+  // If all validations pass, submit to API
+  if (isValid) {
+    const submitBtn = document.getElementById('submitBtn');
+    const originalText = submitBtn.textContent;
+    submitBtn.textContent = 'Registering...';
+    submitBtn.disabled = true;
+
+    try {
+      const registrationData = {
+        firstName: firstName.value,
+        lastName: document.getElementById('lastName').value,
+        email: email.value,
+        password: password.value,
+        confirmPassword: confirmPassword.value,
+        mobileNo: mobileNo.value,
+        roleCategory: roleCategory.value
+      };
+
+      const response = await fetch('/api/auth/register', {
+        method: 'POST',
+        headers: {
+          'Content-Type': 'application/json',
+        },
+        body: JSON.stringify(registrationData)
+      });
+
+      const result = await response.json();
+
+      if (result.success) {
+        // Store success message for success page
+        sessionStorage.setItem('registrationMessage', result.message);
+        window.location.href = 'success.html';
+      } else {
+        showNotification(result.message || 'Registration failed!', 'error');
+      }
+    } catch (error) {
+      console.error('Registration error:', error);
+      showNotification('Network error. Please try again.', 'error');
+    } finally {
+      submitBtn.textContent = originalText;
+      submitBtn.disabled = false;
+    }
+  }
+});
+
+function showError(field, message) {
+  const formGroup = field.closest('.form-group');
+  formGroup.classList.add('error');
+  const errorMessage = formGroup.querySelector('.error-message');
+  errorMessage.textContent = message;
+}
+
+function showNotification(message, type = 'success') {
+  // Create notification element
+  const notification = document.createElement('div');
+  notification.style.cssText = `
+    position: fixed;
+    top: 20px;
+    right: 20px;
+    padding: 15px 20px;
+    border-radius: 5px;
+    color: white;
+    font-weight: 500;
+    z-index: 10000;
+    max-width: 300px;
+    word-wrap: break-word;
+    ${type === 'success' ? 'background-color: #28a745;' : 'background-color: #dc3545;'}
+  `;
+  notification.textContent = message;
+
+  document.body.appendChild(notification);
+
+  // Remove notification after 5 seconds
+  setTimeout(() => {
+    if (notification.parentNode) {
+      notification.parentNode.removeChild(notification);
+    }
+  }, 5000);
+}
+
+// Format mobile number input to only allow numbers
+document.getElementById('mobileNo').addEventListener('input', function(e) {
+  e.target.value = e.target.value.replace(/[^0-9]/g, '').slice(0, 10);
+});
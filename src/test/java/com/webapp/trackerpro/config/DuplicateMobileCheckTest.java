@@ -0,0 +1,73 @@
+package com.webapp.trackerpro.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A database from before uk_user_mobile, migrated from V1: duplicates stop the upgrade with a
+ * report before V2 runs, and empty mobiles are cleared instead of colliding.
+ */
+class DuplicateMobileCheckTest {
+
+    @Test
+    void duplicateMobilesStopTheUpgradeWithAReport() {
+        DataSource dataSource = database("duplicate-mobiles");
+        flyway(dataSource, "1").migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        insert(jdbc, 1, "9000000001");
+        insert(jdbc, 2, "9000000001");
+        insert(jdbc, 3, "9000000002");
+        insert(jdbc, 4, null);
+        insert(jdbc, 5, null);
+
+        assertThatThrownBy(() -> flyway(dataSource, "latest").migrate())
+                .isInstanceOf(FlywayException.class)
+                .hasStackTraceContaining("1 mobile numbers are shared by several users")
+                .hasStackTraceContaining("9000000001: user IDs [1, 2]");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES " +
+                "WHERE INDEX_NAME = 'UK_USER_MOBILE'", Integer.class)).isZero();
+    }
+
+    @Test
+    void emptyMobilesBecomeNull() {
+        DataSource dataSource = database("empty-mobiles");
+        flyway(dataSource, "1").migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        insert(jdbc, 1, "");
+        insert(jdbc, 2, "");
+        insert(jdbc, 3, "9000000003");
+
+        flyway(dataSource, "latest").migrate();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE mobile IS NULL", Integer.class)).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES " +
+                "WHERE INDEX_NAME = 'UK_USER_MOBILE'", Integer.class)).isEqualTo(1);
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static Flyway flyway(DataSource dataSource, String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .javaMigrations(new DuplicateMobileCheck())
+                .target(target)
+                .load();
+    }
+
+    private static void insert(JdbcTemplate jdbc, long id, String mobile) {
+        jdbc.update("INSERT INTO users (id, first_name, email, password, mobile, role, status, created_at) " +
+                "VALUES (?, 'Check', ?, 'not-a-hash', ?, 'STUDENT', 'ACTIVE', CURRENT_TIMESTAMP)",
+                id, "check-" + id + "@example.com", mobile);
+    }
+}
@@ -0,0 +1,73 @@
+package com.webapp.trackerpro.config;
+
+import com.webapp.trackerpro.TrackerproApplication;
+import com.webapp.trackerpro.dto.LoginDto;
+import com.webapp.trackerpro.dto.UserRegistrationDto;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A database the baseline commit built with ddl-auto (no Flyway history, IDENTITY ids, no
+ * version columns) is baselined at V1, brought forward by the later migrations, and the
+ * application then reads, authenticates and registers on it.
+ */
+class SchemaUpgradeTest {
+
+    private static final String URL = "jdbc:h2:mem:baseline-upgrade;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void ddlAutoDatabaseIsUpgradedAndUsable() {
+        DataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline-commit-schema.sql")).execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        String hash = new BCryptPasswordEncoder().encode("secret123");
+        jdbc.update("INSERT INTO users (created_at, email, first_name, password, role, status) " +
+                "VALUES (CURRENT_TIMESTAMP, 'admin@trackerpro.com', 'System', ?, 'ADMIN', 'ACTIVE')", hash);
+        jdbc.update("INSERT INTO users (created_at, email, first_name, password, mobile, role, status) " +
+                "VALUES (CURRENT_TIMESTAMP, 'old-student@example.com', 'Old', ?, '9100000001', 'STUDENT', 'ACTIVE')", hash);
+        long maxOldId = jdbc.queryForObject("SELECT MAX(id) FROM users", Long.class);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TrackerproApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=" + URL, "--spring.jmx.enabled=false")) {
+
+            // Flyway creates its history table with lower-case names, and a row without a version for
+            // the table itself
+            List<String> applied = jdbc.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" " +
+                    "WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class);
+            assertThat(applied).containsExactly("1", "1.1", "1.2", "1.3", "1.4", "2", "3", "4");
+            assertThat(jdbc.queryForObject("SELECT \"type\" FROM \"flyway_schema_history\" " +
+                    "WHERE \"version\" = '1'", String.class))
+                    .isEqualTo("BASELINE");
+
+            User old = context.getBean(UserRepository.class).findByEmail("old-student@example.com").orElseThrow();
+            assertThat(old.getStatusVersion()).isZero();
+            assertThat(old.getVersion()).isZero();
+
+            UserService userService = context.getBean(UserService.class);
+            assertThat(userService.authenticateUser(new LoginDto("old-student@example.com", "secret123", false))
+                    .join().getStatus()).isEqualTo(UserStatus.ACTIVE);
+
+            var registered = userService.registerUser(new UserRegistrationDto("New", "Student",
+                    "new-student@example.com", "secret123", "secret123", "9100000002", "Student")).join();
+            assertThat(registered.getId()).isGreaterThan(maxOldId);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.webapp.trackerpro.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Far-future caching only for URLs that carry a content hash: pages and stylesheets link their
+ * assets under such URLs, and anything requested by its plain path is revalidated.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WebConfigTest {
+
+    private static final Pattern STYLESHEET = Pattern.compile("href=\"(/css/index-[0-9a-f]{32}\\.css)\"");
+    private static final Pattern BACKGROUND = Pattern.compile("url\\('(/bg-curves-[0-9a-f]{32}\\.png)'\\)");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void fingerprintedUrlsAreImmutableAndPlainUrlsRevalidate() throws Exception {
+        MockHttpServletResponse page = fetch("/index.html");
+        assertThat(page.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        String stylesheetUrl = find(STYLESHEET, page.getContentAsString());
+
+        MockHttpServletResponse stylesheet = fetch(stylesheetUrl);
+        assertThat(stylesheet.getStatus()).isEqualTo(200);
+        assertThat(stylesheet.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=31536000", "immutable");
+        String backgroundUrl = find(BACKGROUND, stylesheet.getContentAsString());
+
+        MockHttpServletResponse background = fetch(backgroundUrl);
+        assertThat(background.getStatus()).isEqualTo(200);
+        assertThat(background.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+
+        for (String plain : new String[] {"/css/index.css", "/bg-curves.png"}) {
+            MockHttpServletResponse response = fetch(plain);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        }
+    }
+
+    @Test
+    void staleFingerprintIsNotFound() throws Exception {
+        assertThat(fetch("/css/index-00000000000000000000000000000000.css").getStatus()).isEqualTo(404);
+        assertThat(fetch("/missing.svg").getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse fetch(String path) throws Exception {
+        return mockMvc.perform(get(path)).andReturn().getResponse();
+    }
+
+    private static String find(Pattern pattern, String content) {
+        Matcher matcher = pattern.matcher(content);
+        assertThat(matcher.find()).as("%s in response", pattern).isTrue();
+        return matcher.group(1);
+    }
+}
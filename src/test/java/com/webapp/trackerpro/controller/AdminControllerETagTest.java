@@ -0,0 +1,106 @@
+package com.webapp.trackerpro.controller;
+
+import com.webapp.trackerpro.TrackerproApplication;
+import com.webapp.trackerpro.dto.UserRegistrationDto;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.security.TokenService;
+import com.webapp.trackerpro.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The admin list and stats ETags follow the database, not the instance: a second application
+ * context on the same database stands in for another instance, and a write through it must
+ * invalidate the tags this one serves.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminControllerETagTest {
+
+    private static ConfigurableApplicationContext otherInstance;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private String token;
+
+    @BeforeAll
+    static void startOtherInstance() {
+        otherInstance = new SpringApplicationBuilder(TrackerproApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jmx.enabled=false");
+    }
+
+    @AfterAll
+    static void stopOtherInstance() {
+        otherInstance.close();
+    }
+
+    @BeforeEach
+    void issueAdminToken() {
+        User admin = new User();
+        admin.setFirstName("ETag");
+        admin.setLastName("Admin");
+        admin.setEmail("etag-admin-" + System.nanoTime() + "@example.com");
+        admin.setPassword("not-a-hash");
+        admin.setRole(Role.ADMIN);
+        admin.setStatus(UserStatus.ACTIVE);
+        admin = userRepository.save(admin);
+        token = tokenService.issueAccessToken(admin.getId(), Role.ADMIN, admin.getStatusVersion());
+    }
+
+    @Test
+    void writeThroughAnotherInstanceChangesTheTag() throws Exception {
+        for (String path : new String[] {"/api/admin/users", "/api/admin/pending-registrations", "/api/admin/dashboard-stats"}) {
+            String eTag = fetch(path, null).getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(fetch(path, eTag).getResponse().getStatus()).isEqualTo(304);
+
+            registerThroughOtherInstance();
+
+            MvcResult afterWrite = fetch(path, eTag);
+            assertThat(afterWrite.getResponse().getStatus()).isEqualTo(200);
+            assertThat(afterWrite.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        }
+    }
+
+    private void registerThroughOtherInstance() {
+        String email = "etag-student-" + System.nanoTime() + "@example.com";
+        otherInstance.getBean(UserService.class)
+                .registerUser(new UserRegistrationDto("ETag", "Student", email, "secret123", "secret123", null, "Student"))
+                .join();
+    }
+
+    private MvcResult fetch(String path, String ifNoneMatch) throws Exception {
+        var request = get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn();
+    }
+}
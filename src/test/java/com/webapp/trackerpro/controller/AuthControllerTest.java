@@ -0,0 +1,223 @@
+package com.webapp.trackerpro.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.security.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Tokens are the only credential for /api/admin/**, so only an active admin may obtain one:
+ * admin accounts cannot be self-registered, and no account that is not ACTIVE gets a token
+ * from login or refresh.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    private static final String PASSWORD = "secret123";
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registeringAnAdminIsRejected() throws Exception {
+        String email = uniqueEmail();
+
+        MvcResult result = perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registration(email, "admin")));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(400);
+        assertThat(userRepository.existsByEmail(email)).isFalse();
+    }
+
+    @Test
+    void studentRegistrationStaysPending() throws Exception {
+        String email = uniqueEmail();
+
+        MvcResult result = perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registration(email, "Student")));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        User user = userRepository.findByEmail(email).orElseThrow();
+        assertThat(user.getRole()).isEqualTo(Role.STUDENT);
+        assertThat(user.getStatus()).isEqualTo(UserStatus.PENDING);
+    }
+
+    @Test
+    void pendingAdminGetsNoToken() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.PENDING);
+
+        MvcResult adminLogin = perform(login("/api/auth/admin/login", admin.getEmail()));
+        MvcResult userLogin = perform(login("/api/auth/login", admin.getEmail()));
+
+        assertThat(adminLogin.getResponse().getStatus()).isEqualTo(400);
+        assertThat(userLogin.getResponse().getStatus()).isEqualTo(400);
+        assertThat(adminLogin.getResponse().getContentAsString()).doesNotContain("token");
+    }
+
+    @Test
+    void inactiveAdminCannotRefresh() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.INACTIVE);
+        String refreshToken = tokenService.issueRefreshToken(admin.getId(), Role.ADMIN, admin.getStatusVersion());
+
+        MvcResult result = perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))));
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void activeAdminTokenOpensAdminApi() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.ACTIVE);
+
+        MvcResult login = perform(login("/api/auth/admin/login", admin.getEmail()));
+        assertThat(login.getResponse().getStatus()).isEqualTo(200);
+        JsonNode body = objectMapper.readTree(login.getResponse().getContentAsString());
+
+        MvcResult users = perform(get("/api/admin/users")
+                .header("Authorization", "Bearer " + body.get("token").asText()));
+        assertThat(users.getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void statusChangedByAnotherInstanceStopsLogin() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.ACTIVE);
+        assertThat(perform(login("/api/auth/admin/login", admin.getEmail())).getResponse().getStatus()).isEqualTo(200);
+
+        // Written elsewhere, so this instance's cache entry is not evicted
+        jdbcTemplate.update("UPDATE users SET status = 'INACTIVE', version = version + 1 WHERE id = ?", admin.getId());
+
+        MvcResult result = perform(login("/api/auth/admin/login", admin.getEmail()));
+        assertThat(result.getResponse().getStatus()).isEqualTo(400);
+        assertThat(result.getResponse().getContentAsString()).contains("deactivated");
+    }
+
+    @Test
+    void statusChangedByAnotherInstanceStopsRefresh() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.ACTIVE);
+        String refreshToken = tokenService.issueRefreshToken(admin.getId(), Role.ADMIN, admin.getStatusVersion());
+        assertThat(refresh(refreshToken).getResponse().getStatus()).isEqualTo(200);
+
+        jdbcTemplate.update("UPDATE users SET status = 'INACTIVE', version = version + 1 WHERE id = ?", admin.getId());
+
+        assertThat(refresh(refreshToken).getResponse().getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void streamTokenOpensOnlyTheStream() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.ACTIVE);
+        String accessToken = tokenService.issueAccessToken(admin.getId(), Role.ADMIN, admin.getStatusVersion());
+
+        MvcResult issued = perform(post("/api/admin/stream-token").header("Authorization", "Bearer " + accessToken));
+        assertThat(issued.getResponse().getStatus()).isEqualTo(200);
+        String streamToken = objectMapper.readTree(issued.getResponse().getContentAsString())
+                .get("data").get("token").asText();
+
+        // The stream stays open, so only the start of the response is checked
+        MvcResult stream = mockMvc.perform(get("/api/admin/stream").param("stream_token", streamToken)).andReturn();
+        assertThat(stream.getResponse().getStatus()).isEqualTo(200);
+        assertThat(stream.getRequest().isAsyncStarted()).isTrue();
+
+        MvcResult asBearer = perform(get("/api/admin/users").header("Authorization", "Bearer " + streamToken));
+        assertThat(asBearer.getResponse().getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void accessTokenIsNotAcceptedInTheStreamUrl() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.ACTIVE);
+        String accessToken = tokenService.issueAccessToken(admin.getId(), Role.ADMIN, admin.getStatusVersion());
+
+        MvcResult asStreamToken = mockMvc.perform(get("/api/admin/stream").param("stream_token", accessToken))
+                .andReturn();
+        MvcResult asOldParameter = mockMvc.perform(get("/api/admin/stream").param("access_token", accessToken))
+                .andReturn();
+
+        assertThat(asStreamToken.getResponse().getStatus()).isEqualTo(401);
+        assertThat(asOldParameter.getResponse().getStatus()).isEqualTo(401);
+    }
+
+    private MvcResult refresh(String refreshToken) throws Exception {
+        return perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken))));
+    }
+
+    // Controllers answer with CompletableFutures; validation failures return before going async
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)).andReturn() : result;
+    }
+
+    private RequestBuilder login(String path, String email) throws Exception {
+        return post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("email", email, "password", PASSWORD)));
+    }
+
+    private String registration(String email, String roleCategory) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "firstName", "Test",
+                "lastName", "User",
+                "email", email,
+                "password", PASSWORD,
+                "confirmPassword", PASSWORD,
+                "roleCategory", roleCategory));
+    }
+
+    private User saveUser(Role role, UserStatus status) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(uniqueEmail());
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user.setRole(role);
+        user.setStatus(status);
+        return userRepository.save(user);
+    }
+
+    private static String uniqueEmail() {
+        return "auth-test-" + SEQUENCE.incrementAndGet() + "-" + System.nanoTime() + "@example.com";
+    }
+}
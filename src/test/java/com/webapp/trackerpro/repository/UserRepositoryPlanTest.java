@@ -0,0 +1,226 @@
+package com.webapp.trackerpro.repository;
+
+import com.webapp.trackerpro.config.DuplicateMobileCheck;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.UserStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plans of the listing, keyset and key lookup queries on the migrated H2 schema. The SQL
+ * is what Hibernate actually sends (recorded by a StatementInspector) and is explained with
+ * its parameters unbound. The table is filled first so the planner weighs real row counts.
+ * /users/search is answered from UserSearchIndex in memory; its database side is the key
+ * lookups below and one full stream at start-up.
+ *
+ * <p>Every statement must read through an index with a condition (or walk an index in order and
+ * stop after the page) and must not sort. Queries that cannot meet that on H2, or read the whole
+ * table by design, pass an {@link Allowed} with the reason next to it.
+ *
+ * <p>H2 only. The queries are shaped so MySQL can use the same indexes (equality on the leading
+ * column, a range on created_at, ORDER BY in index order), but MySQL plans are not checked here.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trackerpro-plans;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.webapp.trackerpro.repository.UserRepositoryPlanTest$RecordingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DuplicateMobileCheck.class)
+@ActiveProfiles("test")
+class UserRepositoryPlanTest {
+
+    private static final int ROWS = 20_000;
+
+    private static final Pageable PAGE = PageRequest.of(0, 51);
+    private static final LocalDateTime CURSOR = LocalDateTime.of(2024, 1, 1, 3, 0);
+
+    // "/* PUBLIC.IDX_NAME */": H2 names the index but no condition on it
+    private static final Pattern UNCONDITIONED_INDEX = Pattern.compile("/\\* PUBLIC\\.\\w+ \\*/");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void fill() {
+        // Once per database: ANALYZE commits, so the rows outlive the test's rolled-back transaction.
+        // One admin in 500, a third HR, a tenth pending; one row per second from 2024-01-01
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) >= ROWS) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO users (id, first_name, email, password, mobile, role, status, " +
+                "status_version, version, created_at) " +
+                "SELECT X, 'Plan', 'plan-' || X || '@example.com', 'not-a-hash', CAST(6000000000 + X AS VARCHAR), " +
+                "CASE WHEN MOD(X, 500) = 0 THEN 'ADMIN' WHEN MOD(X, 3) = 0 THEN 'HR' ELSE 'STUDENT' END, " +
+                "CASE WHEN MOD(X, 10) = 0 THEN 'PENDING' ELSE 'ACTIVE' END, 0, 0, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void listingsReadTheirIndexInOrder() {
+        // The default /users listing walks (created_at DESC, id DESC) and stops after the page;
+        // it was a table scan with a sort before V4
+        assertThat(plan(() -> userRepository.findNonAdminUsersPage(PAGE)))
+                .contains("IDX_USER_CREATED_AT_ID */", "index sorted");
+
+        // H2 only reads an index in ORDER BY order when the ORDER BY starts the index, so with
+        // role or status fixed it sorts the rows it reads. MySQL can read the (role | status,
+        // created_at, id) indexes in order; on H2 the role page even prefers the role/status index.
+        assertThat(plan(() -> userRepository.findByRolePage(Role.HR, PAGE), Allowed.SORT))
+                .contains("ROLE = ?1 */");
+        assertThat(plan(() -> userRepository.findByStatusPage(UserStatus.PENDING, PAGE), Allowed.SORT))
+                .contains("IDX_USER_STATUS_CREATED_AT_ID: STATUS = ?1 */");
+        assertThat(plan(() -> userRepository.findPendingRegistrations(UserStatus.PENDING), Allowed.SORT))
+                .contains("IDX_USER_STATUS_CREATED_AT_ID: STATUS = ?1 */");
+        // Same limitation for ORDER BY first_name after the role and status equalities
+        assertThat(plan(() -> userRepository.findActiveUsersByRole(Role.HR, PAGE), Allowed.SORT))
+                .contains("IDX_USER_ROLE_STATUS_FIRST_NAME: ROLE = ?1 AND STATUS = CAST('ACTIVE'");
+    }
+
+    @Test
+    void keysetPagesStartAtTheCursor() {
+        assertThat(plan(() -> userRepository.findNonAdminUsersPageAfter(CURSOR, 10_800L, PAGE)))
+                .contains("IDX_USER_CREATED_AT_ID: CREATED_AT <= ?1 */", "index sorted");
+        // Sorted on H2 for the reason given in listingsReadTheirIndexInOrder
+        assertThat(plan(() -> userRepository.findByRolePageAfter(Role.HR, CURSOR, 10_800L, PAGE), Allowed.SORT))
+                .contains("IDX_USER_ROLE_CREATED_AT_ID: ROLE = ?1 AND CREATED_AT <= ?2 */");
+        assertThat(plan(() -> userRepository.findByStatusPageAfter(UserStatus.PENDING, CURSOR, 10_800L, PAGE),
+                Allowed.SORT))
+                .contains("IDX_USER_STATUS_CREATED_AT_ID: STATUS = ?1 AND CREATED_AT <= ?2 */");
+        // Oldest first against the DESC index: H2 sorts the range, MySQL reads it backwards
+        assertThat(plan(() -> userRepository.findIdsByStatusCreatedBefore(UserStatus.PENDING, null, CURSOR, PAGE),
+                Allowed.SORT))
+                .contains("IDX_USER_STATUS_CREATED_AT_ID: CREATED_AT < ?4 AND STATUS = ?1 */");
+    }
+
+    @Test
+    void keyLookupsUseTheUniqueIndexes() {
+        assertThat(plan(() -> userRepository.findByEmail("plan-1@example.com")))
+                .contains("UK6DOTKOTT2KJSP8VW4D0M25FB7");
+        assertThat(plan(() -> userRepository.existsByEmail("plan-1@example.com")))
+                .contains("UK6DOTKOTT2KJSP8VW4D0M25FB7_INDEX_6: EMAIL = ?1");
+        assertThat(plan(() -> userRepository.findExistingEmails(Set.of("plan-1@example.com", "plan-2@example.com"))))
+                .contains("UK6DOTKOTT2KJSP8VW4D0M25FB7_INDEX_6: EMAIL IN(?1, ?2)");
+        assertThat(plan(() -> userRepository.existsByMobile("6000000001")))
+                .contains("UK_USER_MOBILE: MOBILE = ?1");
+        assertThat(plan(() -> userRepository.findExistingMobiles(Set.of("6000000001", "6000000002"))))
+                .contains("UK_USER_MOBILE: MOBILE IN(?1, ?2)");
+    }
+
+    @Test
+    void filtersAndCountsUseTheRoleAndStatusIndexes() {
+        assertThat(plan(() -> userRepository.findByRoleAndStatus(Role.HR, UserStatus.ACTIVE)))
+                .contains("IDX_USER_ROLE_STATUS_FIRST_NAME: ROLE = ?1 AND STATUS = ?2 */");
+        assertThat(plan(() -> userRepository.findResponsesByRole(Role.HR)))
+                .contains("IDX_USER_ROLE_STATUS_FIRST_NAME: ROLE = ?1 */");
+        assertThat(plan(() -> userRepository.countActiveUsersByRole(Role.HR)))
+                .contains("IDX_USER_ROLE_STATUS_FIRST_NAME: ROLE = ?1 AND STATUS = CAST('ACTIVE'");
+        assertThat(plan(() -> userRepository.countPendingRegistrations()))
+                .contains("IDX_USER_STATUS_CREATED_AT_ID: STATUS = CAST('PENDING'");
+    }
+
+    @Test
+    void transitionsTouchOnlyTheirRows() {
+        // Login and refresh check their cached snapshot with this on every call
+        assertThat(plan(() -> userRepository.findVersionById(10L)))
+                .contains("PRIMARY_KEY", ": ID = ?1 */");
+        assertThat(plan(() -> userRepository.transitionStatus(10L, UserStatus.PENDING, 0L, UserStatus.ACTIVE,
+                LocalDateTime.now())))
+                .contains("UPDATE", "PRIMARY_KEY", ": ID = ?3 */");
+        assertThat(plan(() -> userRepository.findByIdForUpdate(10L)))
+                .contains("PRIMARY_KEY", ": ID = ?1 */", "FOR UPDATE");
+        assertThat(plan(() -> userRepository.findAllByIdForUpdate(List.of(10L, 20L))))
+                .contains("PRIMARY_KEY", ": ID IN(?1, ?2) */", "FOR UPDATE");
+    }
+
+    @Test
+    void fullReadsAreDeliberate() {
+        // The unpaged listing returns every non-admin user; it still reads in index order
+        assertThat(plan(() -> userRepository.findAllNonAdminUsers(), Allowed.FULL_SCAN))
+                .contains("IDX_USER_CREATED_AT_ID */", "index sorted");
+        // The dashboard's grouped count reads every row once, in place of a COUNT per role and
+        // status; H2 walks the role/status index so the groups come out sorted. /dashboard-stats
+        // answers 304 while user_table_version is unchanged and so skips it.
+        assertThat(plan(() -> userRepository.countByRoleAndStatus(), Allowed.FULL_SCAN))
+                .contains("IDX_USER_ROLE_STATUS_FIRST_NAME */", "group sorted");
+        // Export and the start-up seeds of UserSearchIndex and UserKeyFilter stream every row once
+        assertThat(plan(() -> drain(userRepository.streamAllNonAdminUsers()), Allowed.FULL_SCAN))
+                .contains("index sorted");
+        assertThat(plan(() -> drain(userRepository.streamAllNonAdminResponseDtos()), Allowed.FULL_SCAN))
+                .contains("tableScan");
+        assertThat(plan(() -> drain(userRepository.streamAllKeys()), Allowed.FULL_SCAN))
+                .contains("tableScan");
+    }
+
+    // What a query may do beyond an index read with a condition and no sort
+    private enum Allowed {
+        // H2 sorts what it read from the index; the reason is stated at the call
+        SORT,
+        // Reads the whole table or a whole index without a page limit, by design
+        FULL_SCAN
+    }
+
+    private static void drain(Stream<?> rows) {
+        try (rows) {
+            rows.forEach(row -> { });
+        }
+    }
+
+    // Runs the query, then explains each statement it sent (a Page also sends its count)
+    private String plan(Runnable query, Allowed... allowed) {
+        Set<Allowed> exemptions = Set.of(allowed);
+        RecordingInspector.STATEMENTS.clear();
+        query.run();
+        assertThat(RecordingInspector.STATEMENTS).isNotEmpty();
+        StringBuilder plans = new StringBuilder();
+        for (String sql : RecordingInspector.STATEMENTS) {
+            String plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class))
+                    .replaceAll("\\s+", " ");
+            if (!exemptions.contains(Allowed.FULL_SCAN)) {
+                assertThat(plan).as(sql).doesNotContain("tableScan");
+                // An index read without a condition is a full scan unless it is in order and paged
+                if (UNCONDITIONED_INDEX.matcher(plan).find()) {
+                    assertThat(plan).as(sql).contains("index sorted", "FETCH FIRST");
+                }
+            }
+            if (!exemptions.contains(Allowed.SORT) && plan.contains(" ORDER BY ")) {
+                assertThat(plan).as(sql).contains("index sorted");
+            }
+            plans.append(plan).append('\n');
+        }
+        return plans.toString();
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
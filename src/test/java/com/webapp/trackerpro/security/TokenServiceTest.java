@@ -0,0 +1,57 @@
+package com.webapp.trackerpro.security;
+
+import com.webapp.trackerpro.model.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Without a shared secret every instance would sign with its own random key, so start-up
+ * refuses that outside the dev profile.
+ */
+class TokenServiceTest {
+
+    @Test
+    void missingSecretStopsStartUp() {
+        TokenService tokenService = tokenService("", false);
+
+        assertThatThrownBy(tokenService::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("TOKEN_SECRET");
+    }
+
+    @Test
+    void devProfileMaySignWithARandomKey() {
+        TokenService tokenService = tokenService("", true);
+        tokenService.init();
+
+        String token = tokenService.issueAccessToken(1L, Role.ADMIN, 0);
+        assertThat(tokenService.verify(token, TokenService.ACCESS)).isNotNull();
+    }
+
+    @Test
+    void instancesSharingTheSecretAcceptEachOthersTokens() {
+        TokenService first = tokenService("shared-secret-of-at-least-32-bytes!", false);
+        TokenService second = tokenService("shared-secret-of-at-least-32-bytes!", false);
+        first.init();
+        second.init();
+
+        TokenClaims claims = second.verify(first.issueAccessToken(7L, Role.ADMIN, 3), TokenService.ACCESS);
+        assertThat(claims).isNotNull();
+        assertThat(claims.getUserId()).isEqualTo(7L);
+        assertThat(claims.getStatusVersion()).isEqualTo(3);
+    }
+
+    private static TokenService tokenService(String secret, boolean allowRandomSecret) {
+        TokenService tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", secret);
+        ReflectionTestUtils.setField(tokenService, "allowRandomSecret", allowRandomSecret);
+        ReflectionTestUtils.setField(tokenService, "accessTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(tokenService, "refreshTtl", Duration.ofDays(7));
+        return tokenService;
+    }
+}
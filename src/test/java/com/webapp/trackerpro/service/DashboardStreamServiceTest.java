@@ -0,0 +1,100 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import com.webapp.trackerpro.security.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * A write through another instance sends this instance no event; the dispatcher notices it in
+ * user_table_version and tells open dashboards to resync. Writes through this instance arrive
+ * as deltas and cause no resync.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardStreamServiceTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writeThroughAnotherInstanceTriggersResync() throws Exception {
+        User pending = saveUser(Role.STUDENT, UserStatus.PENDING);
+        MockHttpServletResponse stream = openStream();
+        awaitEvent(stream, "snapshot");
+
+        // Another instance approves the user and bumps the table version in the same way
+        jdbcTemplate.update("UPDATE users SET status = 'ACTIVE', version = version + 1 WHERE id = ?", pending.getId());
+        jdbcTemplate.update("UPDATE user_table_version SET version = version + 1 WHERE id = 1");
+
+        awaitEvent(stream, "resync");
+    }
+
+    @Test
+    void localWriteSendsDeltaWithoutResync() throws Exception {
+        User pending = saveUser(Role.STUDENT, UserStatus.PENDING);
+        MockHttpServletResponse stream = openStream();
+        awaitEvent(stream, "snapshot");
+
+        userService.approveUser(pending.getId());
+
+        awaitEvent(stream, "user-status-changed");
+        // Two more polls of user_table_version
+        Thread.sleep(2_500);
+        assertThat(stream.getContentAsString()).doesNotContain("event:resync");
+    }
+
+    private MockHttpServletResponse openStream() throws Exception {
+        User admin = saveUser(Role.ADMIN, UserStatus.ACTIVE);
+        String token = tokenService.issueStreamToken(admin.getId(), Role.ADMIN, admin.getStatusVersion());
+        return mockMvc.perform(get("/api/admin/stream").param("stream_token", token)).andReturn().getResponse();
+    }
+
+    private static void awaitEvent(MockHttpServletResponse stream, String name) throws Exception {
+        long deadline = System.nanoTime() + WAIT.toNanos();
+        while (!stream.getContentAsString().contains("event:" + name)) {
+            assertThat(System.nanoTime()).as("waiting for event %s", name).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private User saveUser(Role role, UserStatus status) {
+        User user = new User();
+        user.setFirstName("Stream");
+        user.setLastName("Test");
+        user.setEmail("stream-test-" + System.nanoTime() + "@example.com");
+        user.setPassword("not-a-hash");
+        user.setRole(role);
+        user.setStatus(status);
+        return userRepository.save(user);
+    }
+}
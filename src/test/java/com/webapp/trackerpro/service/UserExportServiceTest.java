@@ -0,0 +1,64 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Names are free text from self-registration, so CSV cells that a spreadsheet would run as a
+ * formula are exported as text.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserExportServiceTest {
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void formulaCellsAreExportedAsText() throws Exception {
+        User user = saveUser("=HYPERLINK(\"http://example.com\",\"x\")", "+1+1");
+        User tabbed = saveUser("@SUM(A1)", "\t-2");
+        User plain = saveUser("Ann-Marie", "O'Neil");
+
+        String csv = export();
+
+        assertThat(row(csv, user)).startsWith(user.getId() + ",\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",'+1+1,");
+        assertThat(row(csv, tabbed)).startsWith(tabbed.getId() + ",'@SUM(A1),'\t-2,");
+        assertThat(row(csv, plain)).startsWith(plain.getId() + ",Ann-Marie,O'Neil,");
+    }
+
+    private String export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userExportService.exportUsers(UserExportService.Format.CSV, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String row(String csv, User user) {
+        return csv.lines().filter(line -> line.startsWith(user.getId() + ",")).findFirst().orElseThrow();
+    }
+
+    private User saveUser(String firstName, String lastName) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail("export-test-" + System.nanoTime() + "@example.com");
+        user.setPassword("not-a-hash");
+        user.setRole(Role.STUDENT);
+        user.setStatus(UserStatus.ACTIVE);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,96 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.dto.UserRegistrationDto;
+import com.webapp.trackerpro.exception.BusinessException;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A row written without going through this instance's filter (as another instance would)
+ * is missed by the filter, and the unique constraints still refuse the duplicate.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserKeyFilterTest {
+
+    private static final AtomicLong MOBILES = new AtomicLong(7_000_000_000L + System.nanoTime() % 1_000_000_000L);
+
+    @Autowired
+    private UserKeyFilter userKeyFilter;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void awaitFilter() throws InterruptedException {
+        // Built on the task executor after start-up; the fpp gauge reads 1.0 until then
+        for (int i = 0; i < 200 && meterRegistry.get("user.key.filter.fpp").gauge().value() >= 1.0; i++) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void registrationWithAMobileTheFilterMissedIsRejected() {
+        String mobile = writtenElsewhere().getMobile();
+        AtomicBoolean probed = new AtomicBoolean();
+        assertThat(userKeyFilter.mobileExists(mobile, m -> probed.getAndSet(true))).isFalse();
+        assertThat(probed).isFalse();
+
+        assertThatThrownBy(() -> userService.registerUser(registration(uniqueEmail(), mobile)).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BusinessException.class)
+                .hasRootCauseMessage("Email or mobile number already exists");
+    }
+
+    @Test
+    void updateToAMobileTheFilterMissedIsRejected() {
+        User user = writtenElsewhere();
+        String mobile = writtenElsewhere().getMobile();
+
+        assertThatThrownBy(() -> userService.updateUser(user.getId(), registration(user.getEmail(), mobile)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Email or mobile number already exists");
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getMobile()).isEqualTo(user.getMobile());
+    }
+
+    private User writtenElsewhere() {
+        User user = new User();
+        user.setFirstName("Filter");
+        user.setLastName("Test");
+        user.setEmail(uniqueEmail());
+        user.setPassword("not-a-hash");
+        user.setMobile(String.valueOf(MOBILES.incrementAndGet()));
+        user.setRole(Role.STUDENT);
+        user.setStatus(UserStatus.ACTIVE);
+        return userRepository.save(user);
+    }
+
+    private static UserRegistrationDto registration(String email, String mobile) {
+        return new UserRegistrationDto("Filter", "Test", email, "secret123", "secret123", mobile, "Student");
+    }
+
+    private static String uniqueEmail() {
+        return "filter-test-" + MOBILES.get() + "-" + System.nanoTime() + "@example.com";
+    }
+}
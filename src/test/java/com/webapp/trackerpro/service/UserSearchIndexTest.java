@@ -0,0 +1,84 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.dto.UserResponseDto;
+import com.webapp.trackerpro.event.UserChangedEvent;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * An import that lands while the index is being rebuilt is not lost: the running rebuild
+ * may already have scanned past the imported rows, so it goes round once more.
+ */
+class UserSearchIndexTest {
+
+    private static final UserResponseDto EXISTING = user(1L, "Alpha");
+    private static final UserResponseDto IMPORTED = user(2L, "Bravo");
+
+    @Test
+    void importDuringARebuildIsIndexed() throws Exception {
+        CountDownLatch firstScanStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstScan = new CountDownLatch(1);
+        AtomicInteger scans = new AtomicInteger();
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.streamAllNonAdminResponseDtos()).thenAnswer(invocation -> {
+            if (scans.incrementAndGet() == 1) {
+                // The import commits while this scan is under way and after it read its rows
+                firstScanStarted.countDown();
+                releaseFirstScan.await(5, TimeUnit.SECONDS);
+                return Stream.of(EXISTING);
+            }
+            return Stream.of(EXISTING, IMPORTED);
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        Executor executor = runnable -> new Thread(runnable, "search-index-test").start();
+
+        UserSearchIndex index = new UserSearchIndex();
+        ReflectionTestUtils.setField(index, "userRepository", userRepository);
+        ReflectionTestUtils.setField(index, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(index, "applicationTaskExecutor", executor);
+
+        index.onApplicationReady();
+        assertThat(firstScanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        index.onUserChanged(UserChangedEvent.imported(1));
+        releaseFirstScan.countDown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scans.get() < 2 || searchBravo(index) == 0) {
+            assertThat(System.nanoTime()).as("waiting for the imported user").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+        assertThat(scans).hasValue(2);
+    }
+
+    private static int searchBravo(UserSearchIndex index) {
+        try {
+            return index.search("bravo", null, 10).getItems().size();
+        } catch (RuntimeException stillLoading) {
+            return 0;
+        }
+    }
+
+    private static UserResponseDto user(Long id, String firstName) {
+        return new UserResponseDto(id, firstName, "Search", firstName.toLowerCase() + "@example.com", null,
+                Role.STUDENT, UserStatus.ACTIVE, LocalDateTime.of(2024, 1, 1, 0, 0), null);
+    }
+}
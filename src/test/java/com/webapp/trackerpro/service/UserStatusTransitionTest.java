@@ -0,0 +1,157 @@
+package com.webapp.trackerpro.service;
+
+import com.webapp.trackerpro.exception.BusinessException;
+import com.webapp.trackerpro.model.Role;
+import com.webapp.trackerpro.model.User;
+import com.webapp.trackerpro.model.UserStatus;
+import com.webapp.trackerpro.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Approve, reject and toggle racing on one user: the decision is always made on the stored
+ * row, never on a cached snapshot, and no successful change is lost.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserStatusTransitionTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserLookupCache userLookupCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void stopExecutor() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void approveAndRejectHaveExactlyOneWinner() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            User user = pendingUser();
+            List<Callable<UserStatus>> actions = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                actions.add(i % 2 == 0
+                        ? () -> userService.approveUser(user.getId()).getStatus()
+                        : () -> { userService.rejectUser(user.getId()); return UserStatus.REJECTED; });
+            }
+
+            List<UserStatus> winners = race(actions);
+
+            assertThat(winners).hasSize(1);
+            User stored = userRepository.findById(user.getId()).orElseThrow();
+            assertThat(stored.getStatus()).isEqualTo(winners.get(0));
+            assertThat(stored.getStatusVersion()).isEqualTo(user.getStatusVersion() + 1);
+        }
+    }
+
+    @Test
+    void mixedTransitionsLoseNoUpdate() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            User user = pendingUser();
+            List<Callable<UserStatus>> actions = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                actions.add(switch (i % 4) {
+                    case 0 -> () -> userService.approveUser(user.getId()).getStatus();
+                    case 1 -> () -> { userService.rejectUser(user.getId()); return UserStatus.REJECTED; };
+                    default -> () -> { userService.toggleUserStatus(user.getId()); return null; };
+                });
+            }
+
+            List<UserStatus> results = race(actions);
+
+            long decisions = results.stream().filter(status -> status != null).count();
+            assertThat(decisions).isLessThanOrEqualTo(1);
+            User stored = userRepository.findById(user.getId()).orElseThrow();
+            assertThat(stored.getStatusVersion()).isEqualTo(user.getStatusVersion() + results.size());
+        }
+    }
+
+    @Test
+    void staleCachedStatusDoesNotRejectTheRequest() {
+        User user = activeUser();
+        assertThat(userLookupCache.findById(user.getId()).orElseThrow().getStatus()).isEqualTo(UserStatus.ACTIVE);
+        // Another instance moves the row back to pending; this instance's cache entry is not evicted
+        jdbcTemplate.update("UPDATE users SET status = 'PENDING', version = version + 1 WHERE id = ?", user.getId());
+
+        assertThat(userService.approveUser(user.getId()).getStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getStatusVersion())
+                .isEqualTo(user.getStatusVersion() + 1);
+    }
+
+    // Runs the actions at once and returns the results of the ones that succeeded
+    private List<UserStatus> race(List<Callable<UserStatus>> actions) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UserStatus>> futures = new ArrayList<>();
+        for (Callable<UserStatus> action : actions) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return action.call();
+            }));
+        }
+        start.countDown();
+
+        List<UserStatus> succeeded = new ArrayList<>();
+        for (Future<UserStatus> future : futures) {
+            try {
+                succeeded.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                // Losers get the usual validation error; anything else is a bug
+                assertThat(e.getCause()).isInstanceOf(BusinessException.class);
+            } catch (TimeoutException e) {
+                throw new AssertionError("Transition did not finish", e);
+            }
+        }
+        return succeeded;
+    }
+
+    private User pendingUser() {
+        return save(UserStatus.PENDING);
+    }
+
+    private User activeUser() {
+        return save(UserStatus.ACTIVE);
+    }
+
+    private User save(UserStatus status) {
+        User user = new User();
+        user.setFirstName("Transition");
+        user.setLastName("Test");
+        user.setEmail("transition-test-" + System.nanoTime() + "@example.com");
+        user.setPassword("not-a-hash");
+        user.setRole(Role.STUDENT);
+        user.setStatus(status);
+        return userRepository.save(user);
+    }
+}
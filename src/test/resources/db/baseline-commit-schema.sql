@@ -0,0 +1,22 @@
+-- The schema the baseline commit's `ddl-auto: update` created on H2 (copied from its
+-- Hibernate DDL log). SchemaUpgradeTest starts the current application on it.
+
+create table users (
+    id bigint generated by default as identity,
+    created_at timestamp(6) not null,
+    email varchar(100) not null,
+    first_name varchar(50) not null,
+    last_name varchar(50),
+    mobile varchar(10),
+    password varchar(255) not null,
+    role enum ('ADMIN','FACULTY','HR','STUDENT') not null,
+    status enum ('ACTIVE','INACTIVE','PENDING','REJECTED') not null,
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_user_email on users (email);
+create index idx_user_role on users (role);
+create index idx_user_status on users (status);
+
+alter table if exists users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);